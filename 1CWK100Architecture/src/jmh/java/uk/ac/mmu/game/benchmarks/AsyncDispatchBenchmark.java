@@ -0,0 +1,75 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.observers.AsyncGameEventDispatcher;
+import uk.ac.mmu.game.applicationcode.observers.ConsoleGameEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roll throughput with a ConsoleGameEventListener called directly versus behind an
+ * AsyncGameEventDispatcher with each backpressure policy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncDispatchBenchmark {
+
+    @Param({"direct", "BLOCK", "DROP_OLDEST", "COALESCE"})
+    String dispatch;
+
+    // Six points a roll at most, so the score stays inside the cached Score values and far from overflow
+    private static final int ROLLS_PER_GAME = 128;
+
+    private static final PlayerName PLAYER = new PlayerName("Benchmark");
+
+    private Game game;
+    private AsyncGameEventDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        SilencedConsole.silence();
+        game = new Game(new SplittableSingleDiceShaker(42));
+        if (dispatch.equals("direct")) {
+            game.addListener(new ConsoleGameEventListener());
+        } else {
+            dispatcher = new AsyncGameEventDispatcher(4096, AsyncGameEventDispatcher.BackpressurePolicy.valueOf(dispatch));
+            dispatcher.addListener(new ConsoleGameEventListener());
+            game.addListener(dispatcher);
+        }
+        game.start(PLAYER);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+        SilencedConsole.restore();
+    }
+
+    @Benchmark
+    public void rollDice() {
+        if (game.getRolls() == ROLLS_PER_GAME) {
+            game.start(PLAYER);
+        }
+        game.rollDice();
+    }
+}
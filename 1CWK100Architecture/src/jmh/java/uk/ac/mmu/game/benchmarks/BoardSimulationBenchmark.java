@@ -0,0 +1,62 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.SplittableDiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+import uk.ac.mmu.game.applicationcode.simulation.BatchBoardSimulation;
+import uk.ac.mmu.game.applicationcode.simulation.MonteCarloSimulation;
+import uk.ac.mmu.game.applicationcode.simulation.MoveCountHistogram;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips per second for one GameBoard object per game against the struct-of-arrays batch,
+ * on a single worker so the comparison is per core.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSimulationBenchmark {
+
+    private static final int GAMES = 1 << 20;
+
+    @Param({"gameBoard", "batch"})
+    String engine;
+
+    private ForkJoinPool pool;
+    private MonteCarloSimulation monteCarlo;
+    private BatchBoardSimulation batch;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(1);
+        SplittableDiceShakerFactory factory = new SplittableDiceShakerFactory(new SplittableSingleDiceShaker(42));
+        monteCarlo = new MonteCarloSimulation(factory, pool, GAMES);
+        batch = new BatchBoardSimulation(factory, pool, BatchBoardSimulation.DEFAULT_LANES, GAMES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public MoveCountHistogram roundTrips() {
+        return engine.equals("batch") ? batch.run(GAMES) : monteCarlo.run(GAMES);
+    }
+}
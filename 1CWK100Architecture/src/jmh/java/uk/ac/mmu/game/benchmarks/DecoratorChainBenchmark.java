@@ -0,0 +1,78 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.Decorator.CountingDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.Decorator.DiceRollMetrics;
+import uk.ac.mmu.game.applicationcode.Decorator.LoggingDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.Decorator.MetricsDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.Decorator.SampledLoggingDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alternates logging and counting decorators around one shaker, depth 0 being the bare shaker.
+ * "console" stacks the printing demo decorators, "metrics" their sampled and LongAdder-based replacements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoratorChainBenchmark {
+
+    @Param({"0", "1", "2", "4"})
+    int depth;
+
+    @Param({"console", "metrics"})
+    String kind;
+
+    private DiceShaker shaker;
+    private final List<SampledLoggingDiceShakerDecorator> loggers = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        SilencedConsole.silence();
+        DiceShaker chain = new SplittableSingleDiceShaker(42);
+        for (int i = 0; i < depth; i++) {
+            if (kind.equals("console")) {
+                chain = i % 2 == 0
+                        ? new LoggingDiceShakerDecorator(chain)
+                        : new CountingDiceShakerDecorator(chain);
+            } else if (i % 2 == 0) {
+                SampledLoggingDiceShakerDecorator logger = new SampledLoggingDiceShakerDecorator(chain, 1024, 100);
+                loggers.add(logger);
+                chain = logger;
+            } else {
+                chain = new MetricsDiceShakerDecorator(chain, new DiceRollMetrics());
+            }
+        }
+        shaker = chain;
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggers.forEach(SampledLoggingDiceShakerDecorator::close);
+        SilencedConsole.restore();
+    }
+
+    @Benchmark
+    public int shake() {
+        return shaker.shake();
+    }
+}
@@ -0,0 +1,56 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.AbstractDiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.DoubleDiceShakerFactoryMethod;
+import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.FixedDiceShakerFactoryMethod;
+import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.SingleDiceShakerFactoryMethod;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceShakerFactoryBenchmark {
+
+    @Param({"single", "double", "fixed"})
+    String type;
+
+    private AbstractDiceShakerFactory factory;
+
+    @Setup
+    public void setUp() {
+        SilencedConsole.silence();
+        factory = switch (type) {
+            case "single" -> new SingleDiceShakerFactoryMethod();
+            case "double" -> new DoubleDiceShakerFactoryMethod();
+            case "fixed" -> new FixedDiceShakerFactoryMethod();
+            default -> throw new IllegalArgumentException("Unknown factory " + type);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        SilencedConsole.restore();
+    }
+
+    @Benchmark
+    public DiceShaker create() {
+        return factory.create();
+    }
+}
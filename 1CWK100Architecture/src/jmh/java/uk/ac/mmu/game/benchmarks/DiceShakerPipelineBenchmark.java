@@ -0,0 +1,82 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.Decorator.DiceRollMetrics;
+import uk.ac.mmu.game.applicationcode.Decorator.DiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.Decorator.DiceShakerPipelineBuilder;
+import uk.ac.mmu.game.applicationcode.Decorator.MetricsDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same count, bias and clamp concerns as a stack of decorators and as one fused pipeline,
+ * against the undecorated shaker. Three decorator classes share the shake() call site so that the
+ * stacked version sees the megamorphic dispatch it would in an application.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceShakerPipelineBenchmark {
+
+    @Param({"bare", "decorated", "fused"})
+    String shape;
+
+    private DiceShaker shaker;
+
+    @Setup
+    public void setUp() {
+        DiceShaker base = new SplittableSingleDiceShaker(42);
+        shaker = switch (shape) {
+            case "bare" -> base;
+            case "decorated" -> new ClampDecorator(new BiasDecorator(new MetricsDiceShakerDecorator(base, new DiceRollMetrics())));
+            case "fused" -> new DiceShakerPipelineBuilder(base)
+                    .count(new DiceRollMetrics())
+                    .bias(1)
+                    .clamp(1, 6)
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown shape " + shape);
+        };
+    }
+
+    @Benchmark
+    public int shake() {
+        return shaker.shake();
+    }
+
+    private static final class BiasDecorator extends DiceShakerDecorator {
+        BiasDecorator(DiceShaker wrapped) {
+            super(wrapped);
+        }
+
+        @Override
+        public int shake() {
+            return super.shake() + 1;
+        }
+    }
+
+    private static final class ClampDecorator extends DiceShakerDecorator {
+        ClampDecorator(DiceShaker wrapped) {
+            super(wrapped);
+        }
+
+        @Override
+        public int shake() {
+            return Math.max(1, Math.min(6, super.shake()));
+        }
+    }
+}
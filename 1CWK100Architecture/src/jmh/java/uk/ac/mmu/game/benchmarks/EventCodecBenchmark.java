@@ -0,0 +1,140 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+import uk.ac.mmu.game.applicationcode.observers.NullGameEventListener;
+import uk.ac.mmu.game.infrastructure.GameEventDecoder;
+import uk.ac.mmu.game.infrastructure.GameEventEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode rates for a recorded stream of four players taking turns. The bytes and
+ * events counters are reported per second, so bytes/s divided by 10^6 is MB/s; bytes per event
+ * is printed once at setup, next to the 18 bytes a GameJournal roll record takes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    private static final int GAMES = 250;
+    private static final int PLAYERS = 4;
+    private static final int ROLLS_PER_GAME = 25;
+
+    private final List<Object[]> events = new ArrayList<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+    private final GameEventListener sink = new NullGameEventListener();
+    private byte[] encoded;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+        public long events;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            events = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        GameEventListener recorder = new GameEventListener() {
+            @Override
+            public void onGameStarted(PlayerName playerName) {
+                events.add(new Object[]{playerName});
+            }
+
+            @Override
+            public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+                events.add(new Object[]{playerName, roll, score});
+            }
+
+            @Override
+            public void onGameEnded(PlayerName playerName, Score finalScore) {
+                events.add(new Object[]{playerName, null, finalScore});
+            }
+        };
+        SplittableSingleDiceShaker shaker = new SplittableSingleDiceShaker(42);
+        for (int round = 0; round < GAMES / PLAYERS; round++) {
+            Game[] games = new Game[PLAYERS];
+            for (int player = 0; player < PLAYERS; player++) {
+                games[player] = new Game(shaker);
+                games[player].addListener(recorder);
+                games[player].start(new PlayerName("Player " + (player + 1)));
+            }
+            for (int roll = 0; roll < ROLLS_PER_GAME; roll++) {
+                for (Game game : games) {
+                    game.rollDice();
+                }
+            }
+            for (Game game : games) {
+                game.finish();
+            }
+        }
+        encoded = encode();
+        System.out.printf("%nbytes per event: %.3f (%d events in %d bytes)%n",
+                (double) encoded.length / events.size(), events.size(), encoded.length);
+    }
+
+    private byte[] encode() {
+        buffer.reset();
+        try (GameEventEncoder encoder = new GameEventEncoder(buffer)) {
+            for (Object[] event : events) {
+                PlayerName playerName = (PlayerName) event[0];
+                if (event.length == 1) {
+                    encoder.onGameStarted(playerName);
+                } else if (event[1] == null) {
+                    encoder.onGameEnded(playerName, (Score) event[2]);
+                } else {
+                    encoder.onRollMade(playerName, (DiceRoll) event[1], (Score) event[2]);
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public int encodeStream(Counters counters) {
+        byte[] bytes = encode();
+        counters.bytes += bytes.length;
+        counters.events += events.size();
+        return bytes.length;
+    }
+
+    @Benchmark
+    public long decodeStream(Counters counters) throws IOException {
+        GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(encoded));
+        long decoded = decoder.replay(sink);
+        counters.bytes += encoded.length;
+        counters.events += decoded;
+        return decoded;
+    }
+}
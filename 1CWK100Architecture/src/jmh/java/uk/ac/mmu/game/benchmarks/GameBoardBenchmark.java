@@ -0,0 +1,45 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.movementStrategies.MovementRule;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    @Param({"WRAP", "CLAMP", "BOUNCE", "EXACT_FINISH"})
+    MovementRule rule;
+
+    private GameBoard board;
+    private int[] rolls;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        board = new GameBoard(rule.compile(GameBoard.END));
+        rolls = Rolls.singleDie(42);
+    }
+
+    @Benchmark
+    public int advance() {
+        board.advance(rolls[next++ & Rolls.MASK]);
+        return board.getIndex();
+    }
+}
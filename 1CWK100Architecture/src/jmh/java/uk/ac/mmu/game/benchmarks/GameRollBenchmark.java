@@ -0,0 +1,55 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.observers.NullGameEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameRollBenchmark {
+
+    @Param({"0", "1", "8"})
+    int listeners;
+
+    // Six points a roll at most, so the score stays inside the cached Score values and far from overflow
+    private static final int ROLLS_PER_GAME = 128;
+
+    private static final PlayerName PLAYER = new PlayerName("Benchmark");
+
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        game = new Game(new SplittableSingleDiceShaker(42));
+        for (int i = 0; i < listeners; i++) {
+            game.addListener(new NullGameEventListener());
+        }
+        game.start(PLAYER);
+    }
+
+    @Benchmark
+    public void rollDice() {
+        if (game.getRolls() == ROLLS_PER_GAME) {
+            game.start(PLAYER);
+        }
+        game.rollDice();
+    }
+}
@@ -0,0 +1,24 @@
+package uk.ac.mmu.game.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pre-generated single die rolls, so benchmarks of scoring and movement do not measure the RNG.
+ */
+final class Rolls {
+
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    private Rolls() {
+    }
+
+    static int[] singleDie(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] rolls = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            rolls[i] = random.nextInt(1, 7);
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,110 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.BonusSixScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ChainedScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.CompiledScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.DoubleEvenScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.IntScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringStrategies;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.SimpleScoringStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores a running total the way a game does, through the Score path, the int path and a
+ * table compiled by ScoringStrategies.compile.
+ * The total is reset before it leaves the Score cache so all paths see small scores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringStrategyBenchmark {
+
+    private static final int RESET_AT = 1000;
+
+    @Param({"simple", "bonusSix", "doubleEven", "bonusSixThenDoubleEven"})
+    String strategy;
+
+    private ScoringStrategies scoring;
+    private IntScoringStrategy intScoring;
+    private CompiledScoringStrategy tableScoring;
+    private int[] rolls;
+    private int next;
+    private Score score;
+    private int intScore;
+
+    @Setup
+    public void setUp() {
+        switch (strategy) {
+            case "simple" -> {
+                SimpleScoringStrategy simple = new SimpleScoringStrategy();
+                scoring = simple;
+                intScoring = simple;
+            }
+            case "bonusSix" -> {
+                BonusSixScoringStrategy bonusSix = new BonusSixScoringStrategy();
+                scoring = bonusSix;
+                intScoring = bonusSix;
+            }
+            case "doubleEven" -> {
+                DoubleEvenScoringStrategy doubleEven = new DoubleEvenScoringStrategy();
+                scoring = doubleEven;
+                intScoring = doubleEven;
+            }
+            case "bonusSixThenDoubleEven" -> {
+                ChainedScoringStrategy chained = ScoringStrategies.chain(
+                        new BonusSixScoringStrategy(), new DoubleEvenScoringStrategy());
+                scoring = chained;
+                intScoring = chained;
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+        tableScoring = ScoringStrategies.compile(intScoring);
+        rolls = Rolls.singleDie(42);
+        score = Score.ZERO;
+    }
+
+    @Benchmark
+    public Score scoreObjects() {
+        DiceRoll roll = DiceRoll.of(rolls[next++ & Rolls.MASK]);
+        score = scoring.calculateScore(score, roll);
+        if (score.getValue() > RESET_AT) {
+            score = Score.ZERO;
+        }
+        return score;
+    }
+
+    @Benchmark
+    public int scoreInts() {
+        intScore = intScoring.calculateScore(intScore, rolls[next++ & Rolls.MASK]);
+        if (intScore > RESET_AT) {
+            intScore = 0;
+        }
+        return intScore;
+    }
+
+    @Benchmark
+    public int scoreTable() {
+        intScore = tableScoring.calculateScore(intScore, rolls[next++ & Rolls.MASK]);
+        if (intScore > RESET_AT) {
+            intScore = 0;
+        }
+        return intScore;
+    }
+}
@@ -0,0 +1,30 @@
+package uk.ac.mmu.game.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Several demo classes print on every call. Benchmarks swap System.out for a discarding stream
+ * so the cost of building the output is still measured but the JMH console stays readable.
+ */
+final class SilencedConsole {
+
+    private static PrintStream original;
+
+    private SilencedConsole() {
+    }
+
+    static synchronized void silence() {
+        if (original == null) {
+            original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    static synchronized void restore() {
+        if (original != null) {
+            System.setOut(original);
+            original = null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the application until it prints its first roll, with the plain jar
+ * and with the fast-start build (AOT, lazy initialization and the CDS archive).
+ * Build both first with ./mvnw -P fast-start package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String JAR = "target/game-0.0.1-SNAPSHOT.jar";
+    private static final String FAST_START_DIRECTORY = "target/fast-start";
+
+    @Param({"default", "fast-start"})
+    String mode;
+
+    private List<String> command;
+
+    @Setup
+    public void setUp() throws IOException {
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.equals("fast-start")) {
+            command.add("-XX:SharedArchiveFile=" + FAST_START_DIRECTORY + "/application.jsa");
+            command.add("-Dspring.aot.enabled=true");
+            command.add("-Dspring.profiles.active=fast-start");
+            command.add("-jar");
+            command.add(FAST_START_DIRECTORY + "/game-0.0.1-SNAPSHOT.jar");
+        } else {
+            command.add("-jar");
+            command.add(JAR);
+        }
+        command.add("--game.journal.directory=" + Files.createTempDirectory("startup-journal"));
+    }
+
+    @Benchmark
+    public int timeToFirstRoll() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader output = process.inputReader(StandardCharsets.UTF_8)) {
+            int lines = 0;
+            String line;
+            while ((line = output.readLine()) != null) {
+                lines++;
+                if (line.contains(" rolled ")) {
+                    return lines;
+                }
+            }
+            throw new IllegalStateException("Application exited before the first roll");
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
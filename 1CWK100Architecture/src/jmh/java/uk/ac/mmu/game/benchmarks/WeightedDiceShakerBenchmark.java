@@ -0,0 +1,54 @@
+package uk.ac.mmu.game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableDoubleDiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableSingleDiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.WeightedDiceShaker;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceDistribution;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one shake: a fair die and two dice rolled separately, against the alias-method
+ * shaker for two dice and for a die loaded towards six.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedDiceShakerBenchmark {
+
+    @Param({"single", "double", "weightedDouble", "loaded"})
+    String shaker;
+
+    private DiceShaker diceShaker;
+
+    @Setup
+    public void setUp() {
+        diceShaker = switch (shaker) {
+            case "single" -> new SplittableSingleDiceShaker(42);
+            case "double" -> new SplittableDoubleDiceShaker(42);
+            case "weightedDouble" -> new WeightedDiceShaker(DiceDistribution.doubleDice(), 42);
+            case "loaded" -> new WeightedDiceShaker(DiceDistribution.ofWeights(1, 1, 1, 1, 1, 5), 42);
+            default -> throw new IllegalArgumentException("Unknown shaker " + shaker);
+        };
+    }
+
+    @Benchmark
+    public int shake() {
+        return diceShaker.shake();
+    }
+}
@@ -1,32 +1,71 @@
 package uk.ac.mmu.game;
 
 
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.Environment;
 import uk.ac.mmu.game.applicationcode.usecase.Required;
 import uk.ac.mmu.game.infrastructure.Technology;
 
-@Configuration
-public class AppConfig
+import java.nio.file.Path;
+
+// Registers the beans functionally: no configuration class parsing or CGLIB proxy at startup.
+// Plain bean definitions (class plus constructor arguments, or a static factory method) so AOT can generate code for them.
+class AppConfig implements ApplicationContextInitializer<GenericApplicationContext>
 {
 
-    @Bean
-    Required required()
+    @Override
+    public void initialize(GenericApplicationContext context)
+    {
+        // With AOT the generated initializer has already registered these beans
+        if (AotDetector.useGeneratedArtifacts())
+        {
+            return;
+        }
+
+        // Factory methods rather than constructor arguments, so properties are read at runtime and not baked in by AOT
+        registerFactoryMethod(context, "required");
+
+        registerFactoryMethod(context, "playUseCase");
+
+        register(context, "replayUseCase", uk.ac.mmu.game.applicationcode.usecase.replay.UseCase.class,
+                new RuntimeBeanReference("required"));
+
+        register(context, "batchUseCase", uk.ac.mmu.game.applicationcode.usecase.batch.UseCase.class);
+    }
+
+    static Required required(Environment environment)
     {
-        return new Technology();
+        return new Technology(Path.of(environment.getRequiredProperty("game.journal.directory")));
     }
 
+    static uk.ac.mmu.game.applicationcode.usecase.play.Provided playUseCase(Required required, Environment environment)
+    {
+        return new uk.ac.mmu.game.applicationcode.usecase.play.UseCase(required,
+                environment.getProperty("game.journal.verification", Boolean.class, false));
+    }
 
-    @Bean
-    uk.ac.mmu.game.applicationcode.usecase.play.Provided playUseCase(Required required)
+    private static void registerFactoryMethod(GenericApplicationContext context, String name)
     {
-        return new uk.ac.mmu.game.applicationcode.usecase.play.UseCase(required);
+        RootBeanDefinition definition = new RootBeanDefinition(AppConfig.class);
+        definition.setUniqueFactoryMethodName(name);
+        definition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        context.registerBeanDefinition(name, definition);
     }
 
-    @Bean
-    uk.ac.mmu.game.applicationcode.usecase.replay.Provided replayUseCase(Required required)
+    private static void register(GenericApplicationContext context, String name, Class<?> beanClass,
+                                 Object... constructorArguments)
     {
-        return new uk.ac.mmu.game.applicationcode.usecase.replay.UseCase(required);
+        RootBeanDefinition definition = new RootBeanDefinition(beanClass);
+        for (int i = 0; i < constructorArguments.length; i++)
+        {
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(i, constructorArguments[i]);
+        }
+        context.registerBeanDefinition(name, definition);
     }
 
 }
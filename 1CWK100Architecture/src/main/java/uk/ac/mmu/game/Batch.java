@@ -0,0 +1,84 @@
+package uk.ac.mmu.game;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.observers.LogBucketHistogram;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+import uk.ac.mmu.game.applicationcode.usecase.batch.BatchOptions;
+import uk.ac.mmu.game.applicationcode.usecase.batch.BatchSummary;
+import uk.ac.mmu.game.applicationcode.usecase.batch.Provided;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Headless mode: --game.mode=batch [--games=N] [--rolls=N] [--shaker=single|fixed] [--scoring=simple|bonus-six|...]
+//                [--parallelism=N] [--seed=N] [--output=file]; prints one JSON summary to the file or stdout
+@Component
+@ConditionalOnProperty(name = "game.mode", havingValue = "batch")
+class Batch implements ApplicationRunner {
+
+    private final Provided usecase;
+
+    Batch(Provided usecase) {
+        this.usecase = usecase;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        BatchOptions options = new BatchOptions(
+                Long.parseLong(option(args, "games", "10000")),
+                Integer.parseInt(option(args, "rolls", "5")),
+                ShakerType.valueOf(constant(option(args, "shaker", "single"))),
+                ScoringType.valueOf(constant(option(args, "scoring", "simple"))),
+                Integer.parseInt(option(args, "parallelism", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Long.parseLong(option(args, "seed", String.valueOf(ThreadLocalRandom.current().nextLong()))));
+
+        String json = toJson(usecase.simulate(options));
+        String output = option(args, "output", null);
+        if (output == null) {
+            System.out.println(json);
+        } else {
+            try {
+                Files.writeString(Path.of(output), json + System.lineSeparator(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write batch summary to " + output, e);
+            }
+        }
+    }
+
+    private static String option(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(values.size() - 1);
+    }
+
+    private static String constant(String value) {
+        return value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private static String toJson(BatchSummary summary) {
+        BatchOptions options = summary.getOptions();
+        return String.format(Locale.ROOT,
+                "{\"games\":%d,\"rollsPerGame\":%d,\"shaker\":\"%s\",\"scoring\":\"%s\",\"parallelism\":%d,"
+                        + "\"seed\":%d,\"elapsedMillis\":%.3f,\"gamesPerSecond\":%.1f,"
+                        + "\"finalScore\":%s,\"scorePerRoll\":%s}",
+                options.getGames(), options.getRollsPerGame(), options.getShakerType(), options.getScoringType(),
+                options.getParallelism(), options.getSeed(), summary.getElapsedNanos() / 1e6,
+                summary.getGamesPerSecond(), toJson(summary.getFinalScores()), toJson(summary.getScorePerRoll()));
+    }
+
+    private static String toJson(LogBucketHistogram histogram) {
+        return String.format(Locale.ROOT,
+                "{\"count\":%d,\"mean\":%.4f,\"p50\":%d,\"p90\":%d,\"p99\":%d,\"max\":%d}",
+                histogram.getCount(), histogram.getMean(), histogram.getPercentile(50),
+                histogram.getPercentile(90), histogram.getPercentile(99), histogram.getMax());
+    }
+}
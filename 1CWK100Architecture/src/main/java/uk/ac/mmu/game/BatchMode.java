@@ -0,0 +1,36 @@
+package uk.ac.mmu.game;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.env.EnvironmentPostProcessorApplicationListener;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+// Batch jobs get nothing on stdout but the summary, however game.mode=batch is set: argument, property or environment
+class BatchMode implements ApplicationListener<ApplicationEnvironmentPreparedEvent>, Ordered {
+
+    static boolean isActive(Environment environment) {
+        return "batch".equals(environment.getProperty("game.mode"));
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        ConfigurableEnvironment environment = event.getEnvironment();
+        if (isActive(environment)) {
+            environment.getPropertySources().addLast(new MapPropertySource("batchMode", Map.of(
+                    "spring.main.banner-mode", "off",
+                    "spring.main.log-startup-info", "false",
+                    "logging.level.root", "warn")));
+        }
+    }
+
+    // After application.properties has been loaded, before LoggingApplicationListener configures logging
+    @Override
+    public int getOrder() {
+        return EnvironmentPostProcessorApplicationListener.DEFAULT_ORDER + 1;
+    }
+}
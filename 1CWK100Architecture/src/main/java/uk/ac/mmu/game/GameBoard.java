@@ -1,14 +1,29 @@
 package uk.ac.mmu.game;
 
+import uk.ac.mmu.game.applicationcode.movementStrategies.MovementRule;
+import uk.ac.mmu.game.applicationcode.movementStrategies.MovementTable;
+
 public class GameBoard {
     public final static int HOME = 0;
     public final static int END = 20;
     public final static int LENGTH = END - HOME + 1;
+    private static final MovementTable WRAP = MovementRule.WRAP.compile(END);
+    private final MovementTable movement;
     private int index;
     private int moves;
 
 
     public GameBoard() {
+        this(WRAP);
+    }
+
+    // Positions stay on the board by construction; rolls past the table wrap with WRAP and are rejected otherwise
+    public GameBoard(MovementTable movement) {
+        if (movement.getPositions() != LENGTH) {
+            throw new IllegalArgumentException("Movement table is for " + movement.getPositions()
+                    + " positions, board has " + LENGTH);
+        }
+        this.movement = movement;
         this.index = HOME;
         this.moves = 0;
     }
@@ -16,27 +31,30 @@ public class GameBoard {
     public int getIndex() {
         return index;
     }
-    private void setIndex(int newIndex) {
-        if (newIndex >= HOME && newIndex <= END) {
-            index = newIndex;
-        } else {
-            throw new IndexOutOfBoundsException(newIndex);
-        }
-    }
 
     public int getMoves() {
         return moves;
     }
 
     public void advance(int count) {
-        int newIndex = index + count;
-        setIndex(newIndex % LENGTH);
+        if (count < 0 || count > movement.getMaxRoll()) {
+            count = movement.reduce(count);
+        }
+        index = movement.next(index, count);
         moves++;
     }
+    public void sendHome() {
+        index = HOME;
+    }
+
     public boolean isHome() {
         return index == HOME;
     }
 
+    public boolean isAtEnd() {
+        return index == END;
+    }
+
     public int getCurrentPosition() {
         return index + 1;
     }
@@ -1,5 +1,6 @@
 package uk.ac.mmu.game;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 import uk.ac.mmu.game.applicationcode.usecase.replay.Provided;
@@ -9,6 +10,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "game.mode", havingValue = "interactive", matchIfMissing = true)
 class Replay implements org.springframework.boot.CommandLineRunner, Ordered {
 
     private final Provided usecase;
@@ -26,6 +28,7 @@ class Replay implements org.springframework.boot.CommandLineRunner, Ordered {
         int input = scanner.nextInt();
         try {
             usecase.replay(input);
+            System.out.println("Verification: " + usecase.verify(input).getDescription());
         } catch (Exception e) {
             System.out.println("Error during replay: " + e.getMessage());
         }
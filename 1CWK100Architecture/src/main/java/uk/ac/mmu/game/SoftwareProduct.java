@@ -2,13 +2,23 @@ package uk.ac.mmu.game;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class SoftwareProduct {
 
 	public static void main(String[] args) {
 
-        SpringApplication.run(SoftwareProduct.class, args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SoftwareProduct.class)
+                .initializers(new AppConfig())
+                .listeners(new BatchMode())
+                .run(args);
+
+        // Batch jobs exit as soon as the summary is written
+        if (BatchMode.isActive(context.getEnvironment())) {
+            System.exit(SpringApplication.exit(context));
+        }
 
 	}
 
@@ -2,17 +2,19 @@ package uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory;
 
 import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class AbstractDiceShakerFactory {
 
-    private static int totalCreated = 0;  // Shared state across all factories
+    private static final AtomicInteger totalCreated = new AtomicInteger();  // Shared state across all factories
 
     // Public method that clients call - THIS is where Factory Method pattern shines!
     // All subclasses get this common behavior automatically
     public DiceShaker create() {
         System.out.println("  [Factory Method] Creating DiceShaker...");
 
-        totalCreated++;
-        System.out.println("  [Factory Method] Total DiceShakers created: " + totalCreated);
+        int created = totalCreated.incrementAndGet();
+        System.out.println("  [Factory Method] Total DiceShakers created: " + created);
 
         DiceShaker shaker = factoryMethod();
 
@@ -32,6 +34,6 @@ public abstract class AbstractDiceShakerFactory {
     }
 
     public static int getTotalCreated() {
-        return totalCreated;
+        return totalCreated.get();
     }
 }
@@ -0,0 +1,42 @@
+package uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory;
+
+import uk.ac.mmu.game.applicationcode.Decorator.DiceRollMetrics;
+import uk.ac.mmu.game.applicationcode.Decorator.MetricsDiceShakerDecorator;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.DiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Production counterpart of AbstractDiceShakerFactory: the same factory method hook, but create()
+ * counts instead of printing, and every shaker it creates records into this factory's shared metrics.
+ */
+public abstract class InstrumentedDiceShakerFactory implements DiceShakerFactory {
+
+    private static final LongAdder totalCreated = new LongAdder();  // Shared across all instrumented factories
+
+    private final LongAdder created = new LongAdder();
+    private final DiceRollMetrics metrics = new DiceRollMetrics();
+
+    @Override
+    public DiceShaker create() {
+        totalCreated.increment();
+        created.increment();
+        return new MetricsDiceShakerDecorator(factoryMethod(), metrics);
+    }
+
+    protected abstract DiceShaker factoryMethod();
+
+    public long getCreated() {
+        return created.sum();
+    }
+
+    // Rolls of every shaker this factory has created
+    public DiceRollMetrics getMetrics() {
+        return metrics;
+    }
+
+    public static long getTotalCreated() {
+        return totalCreated.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+
+public class SeededDiceShakerFactoryMethod extends AbstractDiceShakerFactory {
+
+    private final ShakerType shakerType;
+    private final long seed;
+
+    public SeededDiceShakerFactoryMethod(ShakerType shakerType, long seed) {
+        this.shakerType = shakerType;
+        this.seed = seed;
+    }
+
+    @Override
+    protected DiceShaker factoryMethod() {
+        return shakerType.create(seed);
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Seeded " + shakerType.name().toLowerCase() + " dice shaker (replayable from seed " + seed + ")";
+    }
+}
@@ -0,0 +1,51 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention-free roll counters that any number of shakers and threads can record into.
+ * Values 0-12 get their own counter; anything larger is counted as overflow.
+ */
+public class DiceRollMetrics {
+
+    public static final int MAX_TRACKED_VALUE = 12;
+
+    private final LongAdder rolls = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder[] faces = new LongAdder[MAX_TRACKED_VALUE + 2];
+
+    public DiceRollMetrics() {
+        for (int i = 0; i < faces.length; i++) {
+            faces[i] = new LongAdder();
+        }
+    }
+
+    public void record(int value) {
+        rolls.increment();
+        total.add(value);
+        faces[value >= 0 && value <= MAX_TRACKED_VALUE ? value : MAX_TRACKED_VALUE + 1].increment();
+    }
+
+    public long getRolls() {
+        return rolls.sum();
+    }
+
+    /**
+     * Sums every counter. Taken while rolls are in flight the figures may be a few rolls apart.
+     */
+    public DiceRollMetricsSnapshot snapshot() {
+        long[] faceCounts = new long[MAX_TRACKED_VALUE + 1];
+        for (int value = 0; value <= MAX_TRACKED_VALUE; value++) {
+            faceCounts[value] = faces[value].sum();
+        }
+        return new DiceRollMetricsSnapshot(rolls.sum(), total.sum(), faceCounts, faces[MAX_TRACKED_VALUE + 1].sum());
+    }
+
+    public void reset() {
+        rolls.reset();
+        total.reset();
+        for (LongAdder face : faces) {
+            face.reset();
+        }
+    }
+}
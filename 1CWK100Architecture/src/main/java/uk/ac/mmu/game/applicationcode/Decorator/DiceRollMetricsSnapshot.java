@@ -0,0 +1,47 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+public class DiceRollMetricsSnapshot {
+
+    private final long rolls;
+    private final long total;
+    private final long[] faceCounts;
+    private final long overflow;
+
+    DiceRollMetricsSnapshot(long rolls, long total, long[] faceCounts, long overflow) {
+        this.rolls = rolls;
+        this.total = total;
+        this.faceCounts = faceCounts;
+        this.overflow = overflow;
+    }
+
+    public long getRolls() {
+        return rolls;
+    }
+
+    public double getMean() {
+        return rolls == 0 ? 0.0 : (double) total / rolls;
+    }
+
+    public long getCount(int value) {
+        return value >= 0 && value < faceCounts.length ? faceCounts[value] : 0;
+    }
+
+    public double getFrequency(int value) {
+        return rolls == 0 ? 0.0 : (double) getCount(value) / rolls;
+    }
+
+    public long getOverflow() {
+        return overflow;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder faces = new StringBuilder();
+        for (int value = 0; value < faceCounts.length; value++) {
+            if (faceCounts[value] > 0) {
+                faces.append(faces.length() == 0 ? "" : ", ").append(value).append('=').append(faceCounts[value]);
+            }
+        }
+        return String.format("DiceRollMetrics(rolls=%d, mean=%.3f, faces={%s})", rolls, getMean(), faces);
+    }
+}
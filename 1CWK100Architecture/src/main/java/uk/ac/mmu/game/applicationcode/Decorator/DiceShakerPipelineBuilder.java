@@ -0,0 +1,87 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Builds one fused DiceShaker from a base shaker and an ordered list of concerns, instead of
+ * stacking a DiceShakerDecorator per concern. The concerns become a small array of opcodes run by
+ * a single loop, so a shake costs one call to the base shaker however many concerns are applied.
+ *
+ * Concerns run in the order they are added, e.g. bias(1).clamp(1, 6) biases before clamping.
+ */
+public class DiceShakerPipelineBuilder {
+
+    private final DiceShaker base;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public DiceShakerPipelineBuilder(DiceShaker base) {
+        this.base = base;
+    }
+
+    public DiceShakerPipelineBuilder count(DiceRollMetrics metrics) {
+        stages.add(new Stage(FusedDiceShaker.COUNT, 0, 0, metrics));
+        return this;
+    }
+
+    // Writes every n-th roll to the sink on the rolling thread
+    public DiceShakerPipelineBuilder log(int every, Consumer<String> sink) {
+        if (every < 1) {
+            throw new IllegalArgumentException("every must be at least 1");
+        }
+        stages.add(new Stage(FusedDiceShaker.LOG, every, 0, sink));
+        return this;
+    }
+
+    public DiceShakerPipelineBuilder bias(int amount) {
+        stages.add(new Stage(FusedDiceShaker.BIAS, amount, 0, null));
+        return this;
+    }
+
+    public DiceShakerPipelineBuilder record(IntConsumer recorder) {
+        stages.add(new Stage(FusedDiceShaker.RECORD, 0, 0, recorder));
+        return this;
+    }
+
+    public DiceShakerPipelineBuilder clamp(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min must not be greater than max");
+        }
+        stages.add(new Stage(FusedDiceShaker.CLAMP, min, max, null));
+        return this;
+    }
+
+    public DiceShaker build() {
+        int size = stages.size();
+        int[] ops = new int[size];
+        int[] firstArgs = new int[size];
+        int[] secondArgs = new int[size];
+        Object[] targets = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Stage stage = stages.get(i);
+            ops[i] = stage.op;
+            firstArgs[i] = stage.firstArg;
+            secondArgs[i] = stage.secondArg;
+            targets[i] = stage.target;
+        }
+        return new FusedDiceShaker(base, ops, firstArgs, secondArgs, targets);
+    }
+
+    private static final class Stage {
+        private final int op;
+        private final int firstArg;
+        private final int secondArg;
+        private final Object target;
+
+        Stage(int op, int firstArg, int secondArg, Object target) {
+            this.op = op;
+            this.firstArg = firstArg;
+            this.secondArg = secondArg;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The shaker produced by DiceShakerPipelineBuilder. Not thread-safe, like the shakers it wraps.
+ */
+final class FusedDiceShaker implements DiceShaker {
+
+    static final int COUNT = 0;
+    static final int LOG = 1;
+    static final int BIAS = 2;
+    static final int RECORD = 3;
+    static final int CLAMP = 4;
+
+    private final DiceShaker base;
+    private final int[] ops;
+    private final int[] firstArgs;
+    private final int[] secondArgs;
+    private final Object[] targets;
+    private final long[] logCounters;
+
+    FusedDiceShaker(DiceShaker base, int[] ops, int[] firstArgs, int[] secondArgs, Object[] targets) {
+        this.base = base;
+        this.ops = ops;
+        this.firstArgs = firstArgs;
+        this.secondArgs = secondArgs;
+        this.targets = targets;
+        this.logCounters = new long[ops.length];
+    }
+
+    @Override
+    public int shake() {
+        return apply(base.shake());
+    }
+
+    @Override
+    public void shake(int[] out, int count) {
+        base.shake(out, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = apply(out[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int apply(int value) {
+        for (int stage = 0; stage < ops.length; stage++) {
+            switch (ops[stage]) {
+                case COUNT -> ((DiceRollMetrics) targets[stage]).record(value);
+                case LOG -> {
+                    if (++logCounters[stage] % firstArgs[stage] == 0) {
+                        ((Consumer<String>) targets[stage]).accept("  [Pipeline] Dice rolled: " + value);
+                    }
+                }
+                case BIAS -> value += firstArgs[stage];
+                case RECORD -> ((IntConsumer) targets[stage]).accept(value);
+                case CLAMP -> value = Math.max(firstArgs[stage], Math.min(secondArgs[stage], value));
+                default -> throw new IllegalStateException("Unknown pipeline stage " + ops[stage]);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,45 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+/**
+ * Production replacement for CountingDiceShakerDecorator: records every roll into
+ * DiceRollMetrics instead of printing it.
+ */
+public class MetricsDiceShakerDecorator extends DiceShakerDecorator {
+
+    private final DiceRollMetrics metrics;
+
+    public MetricsDiceShakerDecorator(DiceShaker wrapped) {
+        this(wrapped, new DiceRollMetrics());
+    }
+
+    // Pass a shared DiceRollMetrics to aggregate several shakers into one set of counters
+    public MetricsDiceShakerDecorator(DiceShaker wrapped, DiceRollMetrics metrics) {
+        super(wrapped);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public int shake() {
+        int result = super.shake();
+        metrics.record(result);
+        return result;
+    }
+
+    @Override
+    public void shake(int[] out, int count) {
+        wrapped.shake(out, count);
+        for (int i = 0; i < count; i++) {
+            metrics.record(out[i]);
+        }
+    }
+
+    public DiceRollMetrics getMetrics() {
+        return metrics;
+    }
+
+    public DiceRollMetricsSnapshot snapshot() {
+        return metrics.snapshot();
+    }
+}
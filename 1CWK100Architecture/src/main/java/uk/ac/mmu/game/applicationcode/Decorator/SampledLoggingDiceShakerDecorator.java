@@ -0,0 +1,88 @@
+package uk.ac.mmu.game.applicationcode.Decorator;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Production replacement for LoggingDiceShakerDecorator. Only about one roll in sampleEvery is
+ * considered for logging, at most maxLinesPerSecond lines are written, and the writing happens on a
+ * background thread so the rolling thread never waits on the console.
+ */
+public class SampledLoggingDiceShakerDecorator extends DiceShakerDecorator implements AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int sampleEvery;
+    private final int maxLinesPerSecond;
+    private final Consumer<String> sink;
+    private final ThreadPoolExecutor writer;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong linesInWindow = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+
+    public SampledLoggingDiceShakerDecorator(DiceShaker wrapped, int sampleEvery, int maxLinesPerSecond) {
+        this(wrapped, sampleEvery, maxLinesPerSecond, System.out::println);
+    }
+
+    public SampledLoggingDiceShakerDecorator(DiceShaker wrapped, int sampleEvery, int maxLinesPerSecond, Consumer<String> sink) {
+        super(wrapped);
+        if (sampleEvery < 1 || maxLinesPerSecond < 1) {
+            throw new IllegalArgumentException("sampleEvery and maxLinesPerSecond must be at least 1");
+        }
+        this.sampleEvery = sampleEvery;
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.sink = sink;
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dice-shaker-logger");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> suppressed.increment());
+    }
+
+    @Override
+    public int shake() {
+        int result = super.shake();
+        if (sampleEvery == 1 || ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+            log(result);
+        }
+        return result;
+    }
+
+    private void log(int result) {
+        if (!tryAcquireLine()) {
+            suppressed.increment();
+            return;
+        }
+        writer.execute(() -> sink.accept("  [Logging] Dice rolled: " + result));
+    }
+
+    private boolean tryAcquireLine() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= ONE_SECOND && windowStart.compareAndSet(start, now)) {
+            linesInWindow.set(0);
+        }
+        return linesInWindow.incrementAndGet() <= maxLinesPerSecond;
+    }
+
+    // Sampled rolls that were not written because of the rate limit or a full queue
+    public long getSuppressedLines() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package uk.ac.mmu.game.applicationcode.DiceShakerFactory;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.SplittableDiceShaker;
+
+/**
+ * Hands out independent splits of one root shaker, so every caller (typically one per worker thread)
+ * gets its own uncontended dice stream. Seeding the root makes the whole family reproducible.
+ */
+public class SplittableDiceShakerFactory implements DiceShakerFactory {
+
+    private final SplittableDiceShaker root;
+
+    public SplittableDiceShakerFactory(SplittableDiceShaker root) {
+        this.root = root;
+    }
+
+    @Override
+    public synchronized DiceShaker create() {
+        return root.split();
+    }
+
+}
@@ -2,4 +2,17 @@ package uk.ac.mmu.game.applicationcode.DiceShakers;
 
 public interface DiceShaker {
     public int shake();
+
+    /**
+     * Fills the first count elements of out with rolls, so callers that need many rolls
+     * pay for one call instead of one per roll. Implementations may override with a tighter loop.
+     */
+    default void shake(int[] out, int count) {
+        if (count < 0 || count > out.length) {
+            throw new IndexOutOfBoundsException(count);
+        }
+        for (int i = 0; i < count; i++) {
+            out[i] = shake();
+        }
+    }
 }
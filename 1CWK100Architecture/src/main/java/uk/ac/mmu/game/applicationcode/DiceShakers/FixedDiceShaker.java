@@ -1,6 +1,6 @@
 package uk.ac.mmu.game.applicationcode.DiceShakers;
 
-public class FixedDiceShaker implements DiceShaker {
+public class FixedDiceShaker implements RestorableDiceShaker {
 
     private final int[] shakes = new int[]{
             1, 2, 3, 4, 5, 6
@@ -8,10 +8,32 @@ public class FixedDiceShaker implements DiceShaker {
 
     private int index = 0;
 
+    public FixedDiceShaker() {
+    }
+
+    FixedDiceShaker(long position) {
+        this.index = (int) Math.floorMod(position, (long) shakes.length);
+    }
+
     @Override
     public int shake() {
         int value = shakes[index];
         index = (index + 1) % shakes.length;
         return value;
     }
+
+    @Override
+    public ShakerType getType() {
+        return ShakerType.FIXED;
+    }
+
+    @Override
+    public long getSeed() {
+        return 0;
+    }
+
+    @Override
+    public long getPosition() {
+        return index;
+    }
 }
@@ -0,0 +1,13 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+/**
+ * A DiceShaker whose state is fully described by its type, seed and how far it has shaken,
+ * so it can be checkpointed in a few bytes and rebuilt with ShakerType.restore.
+ */
+public interface RestorableDiceShaker extends DiceShaker {
+    ShakerType getType();
+
+    long getSeed();
+
+    long getPosition();
+}
@@ -0,0 +1,39 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+/**
+ * Shakers that can be rebuilt exactly from a seed, so a game can be regenerated instead of stored.
+ */
+public enum ShakerType {
+    SINGLE {
+        @Override
+        public DiceShaker create(long seed) {
+            return new SplittableSingleDiceShaker(seed);
+        }
+
+        // SplittableRandom state cannot be read back, so replay the draws from the seed
+        @Override
+        public DiceShaker restore(long seed, long position) {
+            SplittableSingleDiceShaker shaker = new SplittableSingleDiceShaker(seed);
+            for (long draw = 0; draw < position; draw++) {
+                shaker.shake();
+            }
+            return shaker;
+        }
+    },
+    FIXED {
+        @Override
+        public DiceShaker create(long seed) {
+            return new FixedDiceShaker();
+        }
+
+        @Override
+        public DiceShaker restore(long seed, long position) {
+            return new FixedDiceShaker(position);
+        }
+    };
+
+    public abstract DiceShaker create(long seed);
+
+    // Rebuilds a shaker that has already shaken position times
+    public abstract DiceShaker restore(long seed, long position);
+}
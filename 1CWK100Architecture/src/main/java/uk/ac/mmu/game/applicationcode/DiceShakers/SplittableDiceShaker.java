@@ -0,0 +1,9 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+/**
+ * A DiceShaker that is not thread-safe but can be split into statistically independent
+ * shakers, one per thread, so concurrent rolling never contends on a shared seed.
+ */
+public interface SplittableDiceShaker extends DiceShaker {
+    SplittableDiceShaker split();
+}
@@ -0,0 +1,40 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+import java.util.SplittableRandom;
+
+public class SplittableDoubleDiceShaker implements SplittableDiceShaker {
+
+    private final SplittableRandom random;
+
+    public SplittableDoubleDiceShaker() {
+        this(new SplittableRandom());
+    }
+
+    public SplittableDoubleDiceShaker(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableDoubleDiceShaker(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int shake() {
+        return random.nextInt(1, 7) + random.nextInt(1, 7);
+    }
+
+    @Override
+    public void shake(int[] out, int count) {
+        if (count < 0 || count > out.length) {
+            throw new IndexOutOfBoundsException(count);
+        }
+        for (int i = 0; i < count; i++) {
+            out[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+        }
+    }
+
+    @Override
+    public SplittableDoubleDiceShaker split() {
+        return new SplittableDoubleDiceShaker(random.split());
+    }
+}
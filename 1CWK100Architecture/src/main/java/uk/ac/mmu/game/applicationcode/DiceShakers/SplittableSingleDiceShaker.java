@@ -0,0 +1,68 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+import java.util.SplittableRandom;
+
+// Seeded shakers count their draws, so seed and draw count restore them exactly; split shakers cannot be restored
+public class SplittableSingleDiceShaker implements SplittableDiceShaker, RestorableDiceShaker {
+
+    private final SplittableRandom random;
+    private final boolean seeded;
+    private final long seed;
+    private long draws;
+
+    public SplittableSingleDiceShaker() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public SplittableSingleDiceShaker(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.seeded = true;
+        this.seed = seed;
+    }
+
+    private SplittableSingleDiceShaker(SplittableRandom random) {
+        this.random = random;
+        this.seeded = false;
+        this.seed = 0;
+    }
+
+    @Override
+    public int shake() {
+        draws++;
+        return random.nextInt(1, 7);
+    }
+
+    @Override
+    public void shake(int[] out, int count) {
+        if (count < 0 || count > out.length) {
+            throw new IndexOutOfBoundsException(count);
+        }
+        draws += count;
+        for (int i = 0; i < count; i++) {
+            out[i] = random.nextInt(1, 7);
+        }
+    }
+
+    @Override
+    public SplittableSingleDiceShaker split() {
+        return new SplittableSingleDiceShaker(random.split());
+    }
+
+    @Override
+    public ShakerType getType() {
+        return ShakerType.SINGLE;
+    }
+
+    @Override
+    public long getSeed() {
+        if (!seeded) {
+            throw new IllegalStateException("A split shaker has no seed to restore from");
+        }
+        return seed;
+    }
+
+    @Override
+    public long getPosition() {
+        return draws;
+    }
+}
@@ -0,0 +1,114 @@
+package uk.ac.mmu.game.applicationcode.DiceShakers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceDistribution;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shakes any DiceDistribution (loaded dice, custom faces, or the sum of several dice) in constant
+ * time from a single random long, using Walker's alias method: the high 32 bits pick a column and
+ * the low 32 bits decide between the column's own value and its alias. Two dice therefore cost the
+ * same as one. Column choice by multiply-shift is biased by at most columns / 2^32.
+ */
+public class WeightedDiceShaker implements SplittableDiceShaker {
+
+    private static final double SCALE = 0x1p32;
+
+    private final AliasTable table;
+    private final SplittableRandom random;
+
+    public WeightedDiceShaker(DiceDistribution distribution) {
+        this(new AliasTable(distribution), new SplittableRandom());
+    }
+
+    public WeightedDiceShaker(DiceDistribution distribution, long seed) {
+        this(new AliasTable(distribution), new SplittableRandom(seed));
+    }
+
+    private WeightedDiceShaker(AliasTable table, SplittableRandom random) {
+        this.table = table;
+        this.random = random;
+    }
+
+    @Override
+    public int shake() {
+        return table.sample(random.nextLong());
+    }
+
+    @Override
+    public void shake(int[] out, int count) {
+        if (count < 0 || count > out.length) {
+            throw new IndexOutOfBoundsException(count);
+        }
+        for (int i = 0; i < count; i++) {
+            out[i] = table.sample(random.nextLong());
+        }
+    }
+
+    // Splits share the immutable alias table
+    @Override
+    public WeightedDiceShaker split() {
+        return new WeightedDiceShaker(table, random.split());
+    }
+
+    private static final class AliasTable {
+
+        private final int offset;
+        private final int columns;
+        private final long[] threshold;
+        private final int[] alias;
+
+        // Vose's construction: pair each under-full column with an over-full one
+        AliasTable(DiceDistribution distribution) {
+            offset = distribution.getMinValue();
+            columns = distribution.getMaxValue() - offset + 1;
+            threshold = new long[columns];
+            alias = new int[columns];
+
+            double[] scaled = new double[columns];
+            int[] small = new int[columns];
+            int[] large = new int[columns];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int column = 0; column < columns; column++) {
+                scaled[column] = distribution.probability(offset + column) * columns;
+                if (scaled[column] < 1.0) {
+                    small[smallCount++] = column;
+                } else {
+                    large[largeCount++] = column;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int under = small[--smallCount];
+                int over = large[--largeCount];
+                threshold[under] = (long) (scaled[under] * SCALE);
+                alias[under] = over;
+                scaled[over] -= 1.0 - scaled[under];
+                if (scaled[over] < 1.0) {
+                    small[smallCount++] = over;
+                } else {
+                    large[largeCount++] = over;
+                }
+            }
+            // Whatever is left is full up to rounding error
+            while (largeCount > 0) {
+                int column = large[--largeCount];
+                threshold[column] = 1L << 32;
+                alias[column] = column;
+            }
+            while (smallCount > 0) {
+                int column = small[--smallCount];
+                threshold[column] = 1L << 32;
+                alias[column] = column;
+            }
+        }
+
+        // Branch-free: the coin flip is a coin toss, so a branch on it would mispredict half the time
+        int sample(long bits) {
+            int column = (int) (((bits >>> 32) * columns) >>> 32);
+            int keep = (int) (((bits & 0xFFFFFFFFL) - threshold[column]) >> 63);
+            int other = alias[column];
+            return offset + (other ^ ((column ^ other) & keep));
+        }
+    }
+}
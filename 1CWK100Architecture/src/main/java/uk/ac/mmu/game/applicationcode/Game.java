@@ -1,56 +1,96 @@
 package uk.ac.mmu.game.applicationcode;
 
 import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.DiceShakers.RestorableDiceShaker;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameSnapshot;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
 import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
-
-import java.util.ArrayList;
-import java.util.List;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListenerRegistry;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.IntScoringStrategy;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
 
 public class Game {
-    private final List<GameEventListener> listeners = new ArrayList<>();
+    private final GameEventListenerRegistry listeners = new GameEventListenerRegistry();
     private final DiceShaker diceShaker;
+    private final IntScoringStrategy scoringStrategy;
+    private final ScoringType scoringType;
     private PlayerName currentPlayer;
-    private Score currentScore;
+    private int currentScore;
+    private int rolls;
 
     public Game(DiceShaker diceShaker) {
+        this(diceShaker, ScoringType.SIMPLE);
+    }
+
+    public Game(DiceShaker diceShaker, IntScoringStrategy scoringStrategy) {
+        this(diceShaker, scoringStrategy, null);
+    }
+
+    // Games scored by a ScoringType can be snapshotted
+    public Game(DiceShaker diceShaker, ScoringType scoringType) {
+        this(diceShaker, scoringType.create(), scoringType);
+    }
+
+    private Game(DiceShaker diceShaker, IntScoringStrategy scoringStrategy, ScoringType scoringType) {
         this.diceShaker = diceShaker;
-        this.currentScore = Score.ZERO;
+        this.scoringStrategy = scoringStrategy;
+        this.scoringType = scoringType;
+        this.currentScore = 0;
+    }
+
+    /**
+     * Rebuilds a game from a snapshot, with its shaker fast-forwarded to the same position.
+     * Listeners are not part of a snapshot and must be added again.
+     */
+    public static Game restore(GameSnapshot snapshot) {
+        DiceShaker shaker = snapshot.getShakerType().restore(snapshot.getSeed(), snapshot.getShakerPosition());
+        Game game = new Game(shaker, snapshot.getScoringType());
+        game.currentPlayer = snapshot.getPlayerName();
+        game.currentScore = snapshot.getScore();
+        game.rolls = snapshot.getRolls();
+        return game;
+    }
+
+    // Must be called from the thread playing the game, e.g. from one of its listeners
+    public GameSnapshot snapshot() {
+        if (!(diceShaker instanceof RestorableDiceShaker shaker)) {
+            throw new IllegalStateException("Dice shaker " + diceShaker.getClass().getSimpleName() + " cannot be restored");
+        }
+        if (scoringType == null) {
+            throw new IllegalStateException("Only games scored by a ScoringType can be snapshotted");
+        }
+        return new GameSnapshot(currentPlayer, currentScore, rolls, shaker.getType(), shaker.getSeed(),
+                shaker.getPosition(), scoringType);
     }
 
     public void addListener(GameEventListener gameEventListener) {
 
         listeners.add(gameEventListener);
     }
-    public void removeListener(GameEventListener gameEventListener) {
 
-        listeners.remove(gameEventListener);
-    }
+    public void addListener(GameEventListener gameEventListener, int priority) {
 
-    private void notifyGameStarted(PlayerName playerName) {
-        for (GameEventListener listener : listeners) {
-            listener.onGameStarted(playerName);
-        }
+        listeners.add(gameEventListener, priority);
     }
 
-    private void notifyRollMade(PlayerName playerName, DiceRoll roll, Score score) {
-        for (GameEventListener listener : listeners) {
-            listener.onRollMade(playerName, roll, score);
-        }
+    // Weakly held listeners stop being notified once nothing else references them
+    public void addWeakListener(GameEventListener gameEventListener) {
+
+        listeners.addWeak(gameEventListener);
     }
 
-    private void notifyGameFinished(PlayerName playerName, Score finalScore) {
-        for (GameEventListener listener : listeners) {
-            listener.onGameEnded(playerName, finalScore);
-        }
+    public void removeListener(GameEventListener gameEventListener) {
+
+        listeners.remove(gameEventListener);
     }
 
     public void start(PlayerName playerName){
         this.currentPlayer = playerName;
-        this.currentScore = Score.ZERO;
-        notifyGameStarted(playerName);
+        this.currentScore = 0;
+        this.rolls = 0;
+        listeners.onGameStarted(playerName);
     }
 
     public void rollDice() {
@@ -59,20 +99,28 @@ public class Game {
         }
 
         int rollValue = diceShaker.shake();
-        DiceRoll roll = new DiceRoll(rollValue);
-        currentScore = currentScore.add(roll.getValue());
+        DiceRoll roll = DiceRoll.of(rollValue);
+        currentScore = scoringStrategy.calculateScore(currentScore, rollValue);
+        rolls++;
 
-        notifyRollMade(currentPlayer, roll, currentScore);
+        // Only build the Score value object when someone is listening for it
+        if (!listeners.isEmpty()) {
+            listeners.onRollMade(currentPlayer, roll, Score.of(currentScore));
+        }
     }
 
     public void finish() {
         if (currentPlayer == null) {
             throw new IllegalStateException("Game not started");
         }
-        notifyGameFinished(currentPlayer, currentScore);
+        listeners.onGameEnded(currentPlayer, Score.of(currentScore));
     }
 
     public Score getCurrentScore() {
-        return currentScore;
+        return Score.of(currentScore);
+    }
+
+    public int getRolls() {
+        return rolls;
     }
 }
@@ -0,0 +1,128 @@
+package uk.ac.mmu.game.applicationcode.domainmodel.values;
+
+import java.util.Arrays;
+
+/**
+ * Probability of each value a dice shake can produce, e.g. 1-6 for one die or 2-12 for two.
+ */
+public class DiceDistribution {
+
+    private static final double TOLERANCE = 1e-9;
+    private static final DiceDistribution SINGLE_DIE = ofWeights(1, 1, 1, 1, 1, 1);
+
+    // probabilities[value] is the chance of shaking exactly value
+    private final double[] probabilities;
+
+    private DiceDistribution(double[] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    public static DiceDistribution singleDie() {
+        return SINGLE_DIE;
+    }
+
+    public static DiceDistribution doubleDice() {
+        return sumOf(2);
+    }
+
+    /**
+     * Distribution of the total of several fair six-sided dice.
+     */
+    public static DiceDistribution sumOf(int dice) {
+        if (dice < 1) {
+            throw new IllegalArgumentException("Must shake at least one die");
+        }
+        DiceDistribution total = SINGLE_DIE;
+        for (int i = 1; i < dice; i++) {
+            total = total.convolve(SINGLE_DIE);
+        }
+        return total;
+    }
+
+    /**
+     * Builds a distribution from relative weights, weights[0] being face 1, weights[1] face 2 and so on.
+     * Weights need not add up to one; they are normalised.
+     */
+    public static DiceDistribution ofWeights(double... weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("Must give at least one face weight");
+        }
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Face weights must be finite and not negative");
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("At least one face weight must be positive");
+        }
+        double[] probabilities = new double[weights.length + 1];
+        for (int face = 1; face <= weights.length; face++) {
+            probabilities[face] = weights[face - 1] / total;
+        }
+        return new DiceDistribution(probabilities);
+    }
+
+    /**
+     * Distribution of the sum of one shake from this distribution and one from the other.
+     */
+    public DiceDistribution convolve(DiceDistribution other) {
+        double[] sum = new double[getMaxValue() + other.getMaxValue() + 1];
+        for (int a = 0; a < probabilities.length; a++) {
+            if (probabilities[a] == 0.0) {
+                continue;
+            }
+            for (int b = 0; b < other.probabilities.length; b++) {
+                sum[a + b] += probabilities[a] * other.probabilities[b];
+            }
+        }
+        return new DiceDistribution(sum);
+    }
+
+    public double probability(int value) {
+        return value >= 0 && value < probabilities.length ? probabilities[value] : 0.0;
+    }
+
+    public int getMinValue() {
+        int value = 0;
+        while (probabilities[value] < TOLERANCE) {
+            value++;
+        }
+        return value;
+    }
+
+    public int getMaxValue() {
+        return probabilities.length - 1;
+    }
+
+    public double getMean() {
+        double mean = 0.0;
+        for (int value = 0; value < probabilities.length; value++) {
+            mean += value * probabilities[value];
+        }
+        return mean;
+    }
+
+    public double[] toArray() {
+        return probabilities.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DiceDistribution that = (DiceDistribution) o;
+        return Arrays.equals(probabilities, that.probabilities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(probabilities);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DiceDistribution(%d-%d, mean=%.3f)", getMinValue(), getMaxValue(), getMean());
+    }
+}
@@ -1,8 +1,23 @@
 package uk.ac.mmu.game.applicationcode.domainmodel.values;
 
 public class DiceRoll {
+    private static final DiceRoll[] FACES = {
+            new DiceRoll(1), new DiceRoll(2), new DiceRoll(3),
+            new DiceRoll(4), new DiceRoll(5), new DiceRoll(6)
+    };
+
     private final int value;
 
+    /**
+     * Returns the shared instance for a face, so the roll hot path does not allocate.
+     */
+    public static DiceRoll of(int value) {
+        if (value < 1 || value > 6) {
+            throw new IllegalArgumentException("Dice roll must be between 1 and 6");
+        }
+        return FACES[value - 1];
+    }
+
     public DiceRoll(int value) {
         if (value < 1 || value > 6) {
             throw new IllegalArgumentException("Dice roll must be between 1 and 6");
@@ -0,0 +1,88 @@
+package uk.ac.mmu.game.applicationcode.domainmodel.values;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+
+import java.util.Objects;
+
+/**
+ * Everything needed to regenerate a game exactly: who played, how the dice were seeded and shaken,
+ * how rolls were scored and how many rolls were made. A few bytes instead of the full roll history.
+ */
+public class GameRecipe {
+
+    private final int gameId;
+    private final PlayerName playerName;
+    private final long seed;
+    private final ShakerType shakerType;
+    private final ScoringType scoringType;
+    private final int rollCount;
+
+    public GameRecipe(int gameId, PlayerName playerName, long seed, ShakerType shakerType,
+                      ScoringType scoringType, int rollCount) {
+        if (rollCount < 0) {
+            throw new IllegalArgumentException("rollCount must not be negative");
+        }
+        this.gameId = gameId;
+        this.playerName = Objects.requireNonNull(playerName);
+        this.seed = seed;
+        this.shakerType = Objects.requireNonNull(shakerType);
+        this.scoringType = Objects.requireNonNull(scoringType);
+        this.rollCount = rollCount;
+    }
+
+    /**
+     * Derives a well-mixed dice seed for a game from a master seed and the game id (SplitMix64 finaliser),
+     * so neighbouring game ids get unrelated dice streams.
+     */
+    public static long seedFor(long masterSeed, long gameId) {
+        long z = masterSeed + (gameId + 1L) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public PlayerName getPlayerName() {
+        return playerName;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public ShakerType getShakerType() {
+        return shakerType;
+    }
+
+    public ScoringType getScoringType() {
+        return scoringType;
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameRecipe that = (GameRecipe) o;
+        return gameId == that.gameId && seed == that.seed && rollCount == that.rollCount
+                && playerName.equals(that.playerName) && shakerType == that.shakerType && scoringType == that.scoringType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, playerName, seed, shakerType, scoringType, rollCount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameRecipe(game=%d, player=%s, seed=%d, %s, %s, rolls=%d)",
+                gameId, playerName, seed, shakerType, scoringType, rollCount);
+    }
+}
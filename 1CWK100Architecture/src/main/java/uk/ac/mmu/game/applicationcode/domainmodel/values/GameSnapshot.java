@@ -0,0 +1,85 @@
+package uk.ac.mmu.game.applicationcode.domainmodel.values;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+
+import java.util.Objects;
+
+/**
+ * The state of a live Game at one moment: the player and score so far, and the shaker as its
+ * type, seed and position. Game.restore rebuilds a game that carries on from exactly here.
+ */
+public class GameSnapshot {
+
+    private final PlayerName playerName;
+    private final int score;
+    private final int rolls;
+    private final ShakerType shakerType;
+    private final long seed;
+    private final long shakerPosition;
+    private final ScoringType scoringType;
+
+    public GameSnapshot(PlayerName playerName, int score, int rolls, ShakerType shakerType, long seed,
+                        long shakerPosition, ScoringType scoringType) {
+        if (score < 0 || rolls < 0 || shakerPosition < 0) {
+            throw new IllegalArgumentException("Snapshot values must not be negative");
+        }
+        this.playerName = playerName;
+        this.score = score;
+        this.rolls = rolls;
+        this.shakerType = Objects.requireNonNull(shakerType);
+        this.seed = seed;
+        this.shakerPosition = shakerPosition;
+        this.scoringType = Objects.requireNonNull(scoringType);
+    }
+
+    // Null until the game has been started
+    public PlayerName getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getRolls() {
+        return rolls;
+    }
+
+    public ShakerType getShakerType() {
+        return shakerType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getShakerPosition() {
+        return shakerPosition;
+    }
+
+    public ScoringType getScoringType() {
+        return scoringType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameSnapshot that = (GameSnapshot) o;
+        return score == that.score && rolls == that.rolls && seed == that.seed
+                && shakerPosition == that.shakerPosition && Objects.equals(playerName, that.playerName)
+                && shakerType == that.shakerType && scoringType == that.scoringType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerName, score, rolls, shakerType, seed, shakerPosition, scoringType);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameSnapshot(player=%s, score=%d, rolls=%d, %s seed=%d position=%d, %s)",
+                playerName, score, rolls, shakerType, seed, shakerPosition, scoringType);
+    }
+}
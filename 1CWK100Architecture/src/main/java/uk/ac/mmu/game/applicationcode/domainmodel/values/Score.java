@@ -3,8 +3,27 @@ package uk.ac.mmu.game.applicationcode.domainmodel.values;
 import java.util.Objects;
 
 public class Score {
+    private static final int CACHE_SIZE = 1024;
+    private static final Score[] CACHE = new Score[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new Score(i);
+        }
+    }
+
     private final int value;
-    public static final Score ZERO = new Score(0);
+    public static final Score ZERO = CACHE[0];
+
+    /**
+     * Returns a shared instance for small scores and a new one otherwise.
+     */
+    public static Score of(int value) {
+        if (value >= 0 && value < CACHE_SIZE) {
+            return CACHE[value];
+        }
+        return new Score(value);
+    }
 
     public Score(int value) {
         if (value < 0) {
@@ -18,11 +37,11 @@ public class Score {
     }
 
     public Score add(Score other) {
-        return new Score(this.value + other.value);
+        return of(this.value + other.value);
     }
 
     public Score add(int amount) {
-        return new Score(this.value + amount);
+        return of(this.value + amount);
     }
 
     @Override
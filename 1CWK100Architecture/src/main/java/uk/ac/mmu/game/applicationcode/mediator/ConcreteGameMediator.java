@@ -1,9 +1,175 @@
 package uk.ac.mmu.game.applicationcode.mediator;
 
-public class ConcreteGameMediator implements GameMediator{
+import uk.ac.mmu.game.GameBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates several GameBoardColleagues: a board landing on an occupied square captures the
+ * board already there and sends it home, and the turn passes to the board after the last mover.
+ * <p>
+ * onChanged only queues the colleague. The queued changes are applied together in one tick, so N
+ * moves cost one recomputation rather than N cascading ones. Call tick() from the game loop, or
+ * give the mediator an Executor and the first change of each tick schedules it.
+ */
+public class ConcreteGameMediator implements GameMediator {
+
+    private final List<GameBoardColleague> colleagues = new CopyOnWriteArrayList<>();
+    private final List<MediatorEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<GameBoardColleague> changes = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final AtomicBoolean tickScheduled = new AtomicBoolean();
+
+    // Tick state, only touched while holding tickLock
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private final GameBoardColleague[] occupants = new GameBoardColleague[GameBoard.LENGTH];
+    private final List<GameBoardColleague> changed = new ArrayList<>();
+    private GameBoardColleague currentTurn;
+    private long ticks;
+    private long captures;
+
+    public ConcreteGameMediator() {
+        this(null);
+    }
+
+    public ConcreteGameMediator(Executor executor) {
+        this.executor = executor;
+    }
+
+    public GameBoardColleague join(GameBoard gameBoard, String name) {
+        GameBoardColleague colleague = new GameBoardColleague(this, gameBoard, name);
+        register(colleague);
+        return colleague;
+    }
+
+    public void register(GameBoardColleague colleague) {
+        colleagues.add(colleague);
+    }
+
+    public void addListener(MediatorEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MediatorEventListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public void onChanged(Colleague colleague) {
+        if (!(colleague instanceof GameBoardColleague board)) {
+            throw new IllegalArgumentException("Cannot mediate " + colleague);
+        }
+        if (board.markPending()) {
+            changes.add(board);
+        }
+        if (executor != null && tickScheduled.compareAndSet(false, true)) {
+            executor.execute(this::scheduledTick);
+        }
+    }
+
+    private void scheduledTick() {
+        // Cleared before draining, so a change arriving mid-tick schedules the next one
+        tickScheduled.set(false);
+        tick();
+    }
+
+    // Applies every change queued since the last tick and returns how many boards had moved
+    public int tick() {
+        tickLock.lock();
+        try {
+            GameBoardColleague next;
+            while ((next = changes.poll()) != null) {
+                next.clearPending();
+                changed.add(next);
+            }
+            if (changed.isEmpty()) {
+                return 0;
+            }
+
+            Arrays.fill(occupants, null);
+            for (GameBoardColleague colleague : colleagues) {
+                if (!changed.contains(colleague) && !colleague.isHome()) {
+                    occupants[colleague.getIndex()] = colleague;
+                }
+            }
+
+            // Replay the moves in the order they were made, so the later mover captures
+            for (GameBoardColleague mover : changed) {
+                int index = mover.getIndex();
+                if (index == GameBoard.HOME) {
+                    continue;
+                }
+                GameBoardColleague occupant = occupants[index];
+                if (occupant != null && occupant != mover && occupant.captureAt(index)) {
+                    captures++;
+                    for (MediatorEventListener listener : listeners) {
+                        listener.onCaptured(mover, occupant, index);
+                    }
+                }
+                occupants[index] = mover;
+            }
+
+            GameBoardColleague turn = after(changed.get(changed.size() - 1));
+            if (turn != currentTurn) {
+                currentTurn = turn;
+                for (MediatorEventListener listener : listeners) {
+                    listener.onTurnChanged(turn);
+                }
+            }
+
+            int count = changed.size();
+            changed.clear();
+            ticks++;
+            return count;
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    private GameBoardColleague after(GameBoardColleague mover) {
+        int position = colleagues.indexOf(mover);
+        if (position < 0) {
+            return mover;
+        }
+        return colleagues.get((position + 1) % colleagues.size());
+    }
+
+    public GameBoardColleague getCurrentTurn() {
+        tickLock.lock();
+        try {
+            return currentTurn;
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    public long getTicks() {
+        tickLock.lock();
+        try {
+            return ticks;
+        } finally {
+            tickLock.unlock();
+        }
+    }
 
+    public long getCaptures() {
+        tickLock.lock();
+        try {
+            return captures;
+        } finally {
+            tickLock.unlock();
+        }
+    }
 
+    public List<GameBoardColleague> getColleagues() {
+        return List.copyOf(colleagues);
     }
 }
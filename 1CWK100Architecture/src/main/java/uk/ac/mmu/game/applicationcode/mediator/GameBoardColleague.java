@@ -2,12 +2,79 @@ package uk.ac.mmu.game.applicationcode.mediator;
 
 import uk.ac.mmu.game.GameBoard;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A GameBoard taking part in mediation. Each board may be driven from its own thread: moves go
+ * through this colleague, which guards the board and tells the mediator after every move.
+ */
 public class GameBoardColleague implements Colleague {
 
     private final GameMediator gameMediator;
     private final GameBoard gameBoard;
+    private final String name;
+
+    // Set while the colleague is queued for the next tick, so repeated moves queue it once
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private int timesCaptured;
 
     public GameBoardColleague(GameMediator gameMediator, GameBoard gameBoard) {
+        this(gameMediator, gameBoard, "Board");
+    }
+
+    public GameBoardColleague(GameMediator gameMediator, GameBoard gameBoard, String name) {
         this.gameMediator = gameMediator;
+        this.gameBoard = gameBoard;
+        this.name = name;
+    }
+
+    public void advance(int count) {
+        synchronized (this) {
+            gameBoard.advance(count);
+        }
+        gameMediator.onChanged(this);
+    }
+
+    public synchronized int getIndex() {
+        return gameBoard.getIndex();
+    }
+
+    public synchronized int getMoves() {
+        return gameBoard.getMoves();
+    }
+
+    public synchronized boolean isHome() {
+        return gameBoard.isHome();
+    }
+
+    public synchronized int getTimesCaptured() {
+        return timesCaptured;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Only captures if the board has not moved on since the mediator saw it at index
+    synchronized boolean captureAt(int index) {
+        if (gameBoard.getIndex() != index || gameBoard.isHome()) {
+            return false;
+        }
+        gameBoard.sendHome();
+        timesCaptured++;
+        return true;
+    }
+
+    boolean markPending() {
+        return pending.compareAndSet(false, true);
+    }
+
+    void clearPending() {
+        pending.set(false);
+    }
+
+    @Override
+    public String toString() {
+        return name;
     }
 }
@@ -0,0 +1,7 @@
+package uk.ac.mmu.game.applicationcode.mediator;
+
+public interface MediatorEventListener {
+    void onCaptured(GameBoardColleague capturer, GameBoardColleague captured, int index);
+
+    void onTurnChanged(GameBoardColleague next);
+}
@@ -0,0 +1,40 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+public class BounceMovementStrategy implements movementStrategies, IntMovementStrategy {
+
+    private final int end;
+
+    public BounceMovementStrategy() {
+        this(GameBoard.END);
+    }
+
+    public BounceMovementStrategy(int end) {
+        if (end < 1) {
+            throw new IllegalArgumentException("Board end must be at least 1: " + end);
+        }
+        this.end = end;
+    }
+
+    @Override
+    public Score move(Score currentScore, DiceRoll roll) {
+        return Score.of(move(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int move(int position, int roll) {
+        int target = position + roll;
+        // Reflect off the end, and off home again for rolls longer than the board
+        int period = 2 * end;
+        target %= period;
+        return target <= end ? target : period - target;
+    }
+
+    @Override
+    public int getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,36 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+public class ClampMovementStrategy implements movementStrategies, IntMovementStrategy {
+
+    private final int end;
+
+    public ClampMovementStrategy() {
+        this(GameBoard.END);
+    }
+
+    public ClampMovementStrategy(int end) {
+        if (end < 1) {
+            throw new IllegalArgumentException("Board end must be at least 1: " + end);
+        }
+        this.end = end;
+    }
+
+    @Override
+    public Score move(Score currentScore, DiceRoll roll) {
+        return Score.of(move(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int move(int position, int roll) {
+        return Math.min(position + roll, end);
+    }
+
+    @Override
+    public int getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,37 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+public class ExactFinishMovementStrategy implements movementStrategies, IntMovementStrategy {
+
+    private final int end;
+
+    public ExactFinishMovementStrategy() {
+        this(GameBoard.END);
+    }
+
+    public ExactFinishMovementStrategy(int end) {
+        if (end < 1) {
+            throw new IllegalArgumentException("Board end must be at least 1: " + end);
+        }
+        this.end = end;
+    }
+
+    @Override
+    public Score move(Score currentScore, DiceRoll roll) {
+        return Score.of(move(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int move(int position, int roll) {
+        int target = position + roll;
+        return target <= end ? target : position;
+    }
+
+    @Override
+    public int getEnd() {
+        return end;
+    }
+}
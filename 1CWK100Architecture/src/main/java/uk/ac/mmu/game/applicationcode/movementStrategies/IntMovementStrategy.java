@@ -0,0 +1,16 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+/**
+ * Primitive movement rule over board positions HOME (0) to getEnd(). Rules are compiled into a
+ * MovementTable before they are used on the hot path.
+ */
+public interface IntMovementStrategy {
+    int move(int position, int roll);
+
+    int getEnd();
+
+    // Rolls that differ by the period land on the same position; 0 when the rule has no period
+    default int getPeriod() {
+        return 0;
+    }
+}
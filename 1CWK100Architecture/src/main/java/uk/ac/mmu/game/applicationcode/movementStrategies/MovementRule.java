@@ -0,0 +1,39 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+public enum MovementRule {
+    WRAP {
+        @Override
+        public IntMovementStrategy create(int end) {
+            return new WrapMovementStrategy(end);
+        }
+    },
+    CLAMP {
+        @Override
+        public IntMovementStrategy create(int end) {
+            return new ClampMovementStrategy(end);
+        }
+    },
+    BOUNCE {
+        @Override
+        public IntMovementStrategy create(int end) {
+            return new BounceMovementStrategy(end);
+        }
+    },
+    EXACT_FINISH {
+        @Override
+        public IntMovementStrategy create(int end) {
+            return new ExactFinishMovementStrategy(end);
+        }
+    };
+
+    public abstract IntMovementStrategy create(int end);
+
+    public MovementTable compile(int end) {
+        return compile(end, MovementTable.MAX_ROLL);
+    }
+
+    // For dice that can roll more than MovementTable.MAX_ROLL, sized from DiceDistribution.getMaxValue()
+    public MovementTable compile(int end, int maxRoll) {
+        return movementStrategies.compile(create(end), maxRoll);
+    }
+}
@@ -0,0 +1,45 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+/**
+ * A movement rule compiled by movementStrategies.compile. The next[position][roll] table is stored
+ * flat, one row of rolls per position, so a move is a single array read.
+ */
+public final class MovementTable {
+
+    public static final int MAX_ROLL = 12;
+
+    private final int[] next;
+    private final int stride;
+    private final int maxRoll;
+    private final int period;
+
+    MovementTable(int[] next, int stride, int maxRoll, int period) {
+        this.next = next;
+        this.stride = stride;
+        this.maxRoll = maxRoll;
+        this.period = period;
+    }
+
+    public int next(int position, int roll) {
+        return next[position * stride + roll];
+    }
+
+    /**
+     * The roll inside the table that moves like the given one. Only periodic rules such as WRAP have one
+     * for rolls past getMaxRoll(); the others throw rather than land on a wrong position.
+     */
+    public int reduce(int roll) {
+        if (roll < 0 || period == 0) {
+            throw new IllegalArgumentException("Roll " + roll + " is outside 0.." + maxRoll + " for this movement table");
+        }
+        return roll % period;
+    }
+
+    public int getPositions() {
+        return next.length / stride;
+    }
+
+    public int getMaxRoll() {
+        return maxRoll;
+    }
+}
@@ -0,0 +1,41 @@
+package uk.ac.mmu.game.applicationcode.movementStrategies;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+public class WrapMovementStrategy implements movementStrategies, IntMovementStrategy {
+
+    private final int end;
+
+    public WrapMovementStrategy() {
+        this(GameBoard.END);
+    }
+
+    public WrapMovementStrategy(int end) {
+        if (end < 1) {
+            throw new IllegalArgumentException("Board end must be at least 1: " + end);
+        }
+        this.end = end;
+    }
+
+    @Override
+    public Score move(Score currentScore, DiceRoll roll) {
+        return Score.of(move(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int move(int position, int roll) {
+        return (position + roll) % (end + 1);
+    }
+
+    @Override
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public int getPeriod() {
+        return end + 1;
+    }
+}
@@ -5,4 +5,27 @@ import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
 
 public interface movementStrategies {
     Score move(Score currentScore, DiceRoll roll);
+
+    // Precomputes where every position and roll lead, so a board moves with one table lookup.
+    // Periodic rules get a full period of rolls, so MovementTable.reduce can bring any roll into the table.
+    static MovementTable compile(IntMovementStrategy rule, int maxRoll) {
+        int period = rule.getPeriod();
+        if (period > 0) {
+            maxRoll = Math.max(maxRoll, period - 1);
+        }
+        int positions = rule.getEnd() + 1;
+        int stride = maxRoll + 1;
+        int[] next = new int[positions * stride];
+        for (int position = 0; position < positions; position++) {
+            for (int roll = 0; roll <= maxRoll; roll++) {
+                int target = rule.move(position, roll);
+                if (target < 0 || target >= positions) {
+                    throw new IllegalArgumentException(
+                            "Rule moves " + position + " by " + roll + " off the board to " + target);
+                }
+                next[position * stride + roll] = target;
+            }
+        }
+        return new MovementTable(next, stride, maxRoll, period);
+    }
 }
@@ -0,0 +1,275 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A GameEventListener that queues events in a bounded ring buffer and delivers them to its own
+ * listeners in batches on a consumer thread, so slow listeners no longer hold up the rolling thread.
+ * Add it to one Game or share it between many; events from each game keep their order.
+ */
+public class AsyncGameEventDispatcher implements GameEventListener, AutoCloseable {
+
+    /**
+     * What a producer does when the ring buffer is full.
+     */
+    public enum BackpressurePolicy {
+        /** Wait for the consumer to make room. Nothing is lost. */
+        BLOCK,
+        /** Discard the oldest queued event to make room. */
+        DROP_OLDEST,
+        /**
+         * Merge a roll into the newest queued roll of the same player, so listeners see the latest
+         * roll and score only. Falls back to blocking when there is nothing to merge with.
+         */
+        COALESCE
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final int GAME_STARTED = 0;
+    private static final int ROLL_MADE = 1;
+    private static final int GAME_ENDED = 2;
+
+    private final GameEventListenerRegistry listeners = new GameEventListenerRegistry();
+    private final BackpressurePolicy policy;
+    private final int batchSize;
+
+    private final int[] types;
+    private final PlayerName[] players;
+    private final DiceRoll[] rolls;
+    private final Score[] scores;
+    private int head;
+    private int size;
+    private long droppedEvents;
+    private long coalescedEvents;
+    private boolean dispatching;
+    private boolean closed;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final Thread consumer;
+
+    public AsyncGameEventDispatcher(int capacity, BackpressurePolicy policy) {
+        this(capacity, policy, DEFAULT_BATCH_SIZE, Thread.ofVirtual().name("game-event-dispatcher").factory());
+    }
+
+    public AsyncGameEventDispatcher(int capacity, BackpressurePolicy policy, int batchSize, ThreadFactory threadFactory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.types = new int[capacity];
+        this.players = new PlayerName[capacity];
+        this.rolls = new DiceRoll[capacity];
+        this.scores = new Score[capacity];
+        this.consumer = threadFactory.newThread(this::dispatchLoop);
+        this.consumer.start();
+    }
+
+    public void addListener(GameEventListener gameEventListener) {
+        listeners.add(gameEventListener);
+    }
+
+    public void removeListener(GameEventListener gameEventListener) {
+        listeners.remove(gameEventListener);
+    }
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+        publish(GAME_STARTED, playerName, null, null);
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+        publish(ROLL_MADE, playerName, roll, score);
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        publish(GAME_ENDED, playerName, null, finalScore);
+    }
+
+    private void publish(int type, PlayerName playerName, DiceRoll roll, Score score) {
+        lock.lock();
+        try {
+            while (size == types.length) {
+                if (closed) {
+                    throw new IllegalStateException("Dispatcher closed");
+                }
+                if (policy == BackpressurePolicy.DROP_OLDEST) {
+                    dropOldest();
+                    break;
+                }
+                if (policy == BackpressurePolicy.COALESCE && type == ROLL_MADE && coalesce(playerName, roll, score)) {
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+            if (closed) {
+                throw new IllegalStateException("Dispatcher closed");
+            }
+            int slot = (head + size) % types.length;
+            types[slot] = type;
+            players[slot] = playerName;
+            rolls[slot] = roll;
+            scores[slot] = score;
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dropOldest() {
+        clear(head);
+        head = (head + 1) % types.length;
+        size--;
+        droppedEvents++;
+    }
+
+    private boolean coalesce(PlayerName playerName, DiceRoll roll, Score score) {
+        int newest = (head + size - 1) % types.length;
+        if (types[newest] != ROLL_MADE || !players[newest].equals(playerName)) {
+            return false;
+        }
+        rolls[newest] = roll;
+        scores[newest] = score;
+        coalescedEvents++;
+        return true;
+    }
+
+    private void clear(int slot) {
+        players[slot] = null;
+        rolls[slot] = null;
+        scores[slot] = null;
+    }
+
+    private void dispatchLoop() {
+        int[] batchTypes = new int[batchSize];
+        PlayerName[] batchPlayers = new PlayerName[batchSize];
+        DiceRoll[] batchRolls = new DiceRoll[batchSize];
+        Score[] batchScores = new Score[batchSize];
+
+        while (true) {
+            int count;
+            lock.lock();
+            try {
+                dispatching = false;
+                if (size == 0) {
+                    drained.signalAll();
+                }
+                while (size == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (size == 0) {
+                    return;
+                }
+                count = Math.min(size, batchSize);
+                for (int i = 0; i < count; i++) {
+                    batchTypes[i] = types[head];
+                    batchPlayers[i] = players[head];
+                    batchRolls[i] = rolls[head];
+                    batchScores[i] = scores[head];
+                    clear(head);
+                    head = (head + 1) % types.length;
+                }
+                size -= count;
+                dispatching = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            deliver(batchTypes, batchPlayers, batchRolls, batchScores, count);
+        }
+    }
+
+    private void deliver(int[] batchTypes, PlayerName[] batchPlayers, DiceRoll[] batchRolls, Score[] batchScores, int count) {
+        for (GameEventListenerRegistry.Registration registration : listeners.snapshot()) {
+            GameEventListener listener = registration.get();
+            if (listener == null) {
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                try {
+                    switch (batchTypes[i]) {
+                        case GAME_STARTED -> listener.onGameStarted(batchPlayers[i]);
+                        case ROLL_MADE -> listener.onRollMade(batchPlayers[i], batchRolls[i], batchScores[i]);
+                        default -> listener.onGameEnded(batchPlayers[i], batchScores[i]);
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Game event listener failed: " + e.getMessage());
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            batchPlayers[i] = null;
+            batchRolls[i] = null;
+            batchScores[i] = null;
+        }
+    }
+
+    /**
+     * Blocks until every event published so far has been delivered.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            while (size > 0 || dispatching) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDroppedEvents() {
+        lock.lock();
+        try {
+            return droppedEvents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCoalescedEvents() {
+        lock.lock();
+        try {
+            return coalescedEvents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting events, delivers whatever is still queued and waits for the consumer to finish.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Copy-on-write set of listeners that is safe to change from any thread while events are being
+ * delivered. Writers swap in a new array with a CAS; each event is delivered to the array current when
+ * it was raised, without locking and without ever seeing a ConcurrentModificationException.
+ * Listeners with a higher priority are notified first, and equal priorities keep their registration order.
+ * The registry is itself a GameEventListener that forwards every event to its listeners.
+ */
+public class GameEventListenerRegistry implements GameEventListener {
+
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private static final int GAME_STARTED = 0;
+    private static final int ROLL_MADE = 1;
+    private static final int GAME_ENDED = 2;
+
+    private static final Registration[] EMPTY = new Registration[0];
+
+    private final AtomicReference<Registration[]> registrations = new AtomicReference<>(EMPTY);
+
+    public void add(GameEventListener listener) {
+        add(listener, DEFAULT_PRIORITY);
+    }
+
+    public void add(GameEventListener listener, int priority) {
+        insert(new Registration(listener, null, priority));
+    }
+
+    /**
+     * Registers a listener without keeping it alive; once it is garbage collected it is skipped and purged.
+     */
+    public void addWeak(GameEventListener listener) {
+        addWeak(listener, DEFAULT_PRIORITY);
+    }
+
+    public void addWeak(GameEventListener listener, int priority) {
+        insert(new Registration(null, new WeakReference<>(listener), priority));
+    }
+
+    private void insert(Registration registration) {
+        if (registration.get() == null) {
+            throw new IllegalArgumentException("listener must not be null");
+        }
+        while (true) {
+            Registration[] current = registrations.get();
+            int position = 0;
+            while (position < current.length && current[position].priority >= registration.priority) {
+                position++;
+            }
+            Registration[] updated = new Registration[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, position);
+            updated[position] = registration;
+            System.arraycopy(current, position, updated, position + 1, current.length - position);
+            if (registrations.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    public boolean remove(GameEventListener listener) {
+        while (true) {
+            Registration[] current = registrations.get();
+            int position = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].get() == listener) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return false;
+            }
+            Registration[] updated = new Registration[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, position);
+            System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+            if (registrations.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops weakly held listeners that have been garbage collected.
+     */
+    public void purge() {
+        while (true) {
+            Registration[] current = registrations.get();
+            Registration[] updated = Arrays.stream(current)
+                    .filter(registration -> registration.get() != null)
+                    .toArray(Registration[]::new);
+            if (updated.length == current.length || registrations.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The current registrations in notification order. The array is never modified but is shared,
+     * so it stays inside this package; get() returns null for a weak listener that has been collected.
+     */
+    Registration[] snapshot() {
+        return registrations.get();
+    }
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+        deliver(GAME_STARTED, playerName, null, null);
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+        deliver(ROLL_MADE, playerName, roll, score);
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        deliver(GAME_ENDED, playerName, null, finalScore);
+    }
+
+    private void deliver(int type, PlayerName playerName, DiceRoll roll, Score score) {
+        for (Registration registration : registrations.get()) {
+            GameEventListener listener = registration.get();
+            if (listener == null) {
+                purge();
+                continue;
+            }
+            switch (type) {
+                case GAME_STARTED -> listener.onGameStarted(playerName);
+                case ROLL_MADE -> listener.onRollMade(playerName, roll, score);
+                default -> listener.onGameEnded(playerName, score);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return registrations.get().length == 0;
+    }
+
+    public int size() {
+        return registrations.get().length;
+    }
+
+    static final class Registration {
+
+        private final GameEventListener strong;
+        private final WeakReference<GameEventListener> weak;
+        private final int priority;
+
+        private Registration(GameEventListener strong, WeakReference<GameEventListener> weak, int priority) {
+            this.strong = strong;
+            this.weak = weak;
+            this.priority = priority;
+        }
+
+        public GameEventListener get() {
+            return strong != null ? strong : weak.get();
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+/**
+ * A player's best final score. Entries rank by score, highest first; a tie goes to whoever reached
+ * the score first.
+ */
+public final class LeaderboardEntry implements Comparable<LeaderboardEntry> {
+
+    private final PlayerName playerName;
+    private final int score;
+    private final long sequence;
+
+    LeaderboardEntry(PlayerName playerName, int score, long sequence) {
+        this.playerName = playerName;
+        this.score = score;
+        this.sequence = sequence;
+    }
+
+    public PlayerName getPlayerName() {
+        return playerName;
+    }
+
+    public Score getScore() {
+        return Score.of(score);
+    }
+
+    int getScoreValue() {
+        return score;
+    }
+
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        int byScore = Integer.compare(other.score, score);
+        return byScore != 0 ? byScore : Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LeaderboardEntry that = (LeaderboardEntry) o;
+        return sequence == that.sequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sequence);
+    }
+
+    @Override
+    public String toString() {
+        return playerName + " " + score;
+    }
+}
@@ -0,0 +1,156 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live leaderboard of the best final score per player across every game it is added to.
+ * Updates are O(log n) on a concurrent skip list and take no lock shared between players, so games
+ * ending on different threads do not wait for each other or for readers.
+ * <p>
+ * top(k) reads the first k entries and retries if an update overlapped the read, so every
+ * snapshot is a ranking that existed at one moment. Each clean read is published; once a few
+ * attempts have been overlapped, top(k) returns the newest published ranking that holds k entries,
+ * which may trail the updates still in flight. Readers never hold back updates.
+ */
+public class LeaderboardGameEventListener implements GameEventListener {
+
+    private static final int OPTIMISTIC_READS = 8;
+
+    private final ConcurrentHashMap<PlayerName, LeaderboardEntry> best = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<LeaderboardEntry> ranking = new ConcurrentSkipListSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Seqlock for readers: updates in progress, and updates completed
+    private final AtomicInteger updating = new AtomicInteger();
+    private final AtomicLong updates = new AtomicLong();
+
+    private final AtomicReference<PublishedRanking> published = new AtomicReference<>();
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        int score = finalScore.getValue();
+        LeaderboardEntry current = best.get(playerName);
+        if (current != null && current.getScoreValue() >= score) {
+            return;
+        }
+        best.compute(playerName, (name, previous) -> {
+            if (previous != null && previous.getScoreValue() >= score) {
+                return previous;
+            }
+            LeaderboardEntry entry = new LeaderboardEntry(name, score, sequence.incrementAndGet());
+            updating.incrementAndGet();
+            try {
+                ranking.add(entry);
+                if (previous != null) {
+                    ranking.remove(previous);
+                }
+            } finally {
+                updates.incrementAndGet();
+                updating.decrementAndGet();
+            }
+            return entry;
+        });
+    }
+
+    public List<LeaderboardEntry> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        List<LeaderboardEntry> snapshot = new ArrayList<>(Math.min(k, 64));
+        for (int attempt = 1; ; attempt++) {
+            if (updating.get() == 0) {
+                long before = updates.get();
+                read(snapshot, k);
+                if (updating.get() == 0 && updates.get() == before) {
+                    PublishedRanking clean = new PublishedRanking(before, snapshot, k);
+                    publish(clean);
+                    return clean.entries;
+                }
+                snapshot.clear();
+            }
+            if (attempt < OPTIMISTIC_READS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            PublishedRanking last = published.get();
+            if (last != null && last.holds(k)) {
+                return last.top(k);
+            }
+            // Nothing published holds k entries yet: keep retrying, yielding to the updaters
+            Thread.yield();
+        }
+    }
+
+    // Keeps the newest ranking, and of equally new ones the longest
+    private void publish(PublishedRanking candidate) {
+        while (true) {
+            PublishedRanking current = published.get();
+            if (current != null && (current.version > candidate.version
+                    || current.version == candidate.version && current.holds(candidate.entries.size()))) {
+                return;
+            }
+            if (published.compareAndSet(current, candidate)) {
+                return;
+            }
+        }
+    }
+
+    private void read(List<LeaderboardEntry> snapshot, int k) {
+        Iterator<LeaderboardEntry> entries = ranking.iterator();
+        while (snapshot.size() < k && entries.hasNext()) {
+            snapshot.add(entries.next());
+        }
+    }
+
+    public Optional<Score> getBestScore(PlayerName playerName) {
+        LeaderboardEntry entry = best.get(playerName);
+        return entry == null ? Optional.empty() : Optional.of(entry.getScore());
+    }
+
+    public int size() {
+        return best.size();
+    }
+
+    private static final class PublishedRanking {
+
+        private final long version;
+        private final List<LeaderboardEntry> entries;
+        // Fewer entries than asked for means the read reached the end of the ranking
+        private final boolean whole;
+
+        PublishedRanking(long version, List<LeaderboardEntry> entries, int k) {
+            this.version = version;
+            this.entries = Collections.unmodifiableList(entries);
+            this.whole = entries.size() < k;
+        }
+
+        boolean holds(int k) {
+            return whole || entries.size() >= k;
+        }
+
+        List<LeaderboardEntry> top(int k) {
+            return k >= entries.size() ? entries : entries.subList(0, k);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory histogram of non-negative ints in the style of HdrHistogram: values below 128 get a
+ * bucket each, and above that every power of two is split into 64 buckets, so any recorded value
+ * is reported within 1/64 (about 1.6%) of itself. Recording is lock-free and allocation-free, and
+ * any thread may read percentiles while others record.
+ */
+public class LogBucketHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int HALF_SUB_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int MAX_SHIFT = Integer.SIZE - 1 - SUB_BUCKET_BITS;
+    static final int BUCKETS = (MAX_SHIFT + 2) * HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative");
+        }
+        counts.incrementAndGet(bucketOf(value));
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    public LogBucketHistogram merge(LogBucketHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long count = other.counts.get(bucket);
+            if (count != 0) {
+                counts.addAndGet(bucket, count);
+            }
+        }
+        sum.add(other.sum.sum());
+        long otherMax = other.max.get();
+        long current = max.get();
+        while (otherMax > current && !max.compareAndSet(current, otherMax)) {
+            current = max.get();
+        }
+        return this;
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            total += counts.get(bucket);
+        }
+        return total;
+    }
+
+    public double getMean() {
+        long total = getCount();
+        return total == 0 ? 0.0 : (double) sum.sum() / total;
+    }
+
+    public int getMax() {
+        return (int) max.get();
+    }
+
+    /**
+     * Smallest value, to the histogram's precision, that at least the given percentage (0-100)
+     * of recorded values are at or below.
+     */
+    public int getPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        // Work on a copy so the total and the scan agree while other threads keep recording
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            total += snapshot[bucket];
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= target && seen > 0) {
+                return (int) Math.min(highestValueIn(bucket), max.get());
+            }
+        }
+        return 0;
+    }
+
+    static int bucketOf(int value) {
+        int shift = Math.max(0, Integer.SIZE - Integer.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * HALF_SUB_BUCKETS + (value >>> shift);
+    }
+
+    static long highestValueIn(int bucket) {
+        int shift = Math.max(0, bucket / HALF_SUB_BUCKETS - 1);
+        long top = bucket - (long) shift * HALF_SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LogBucketHistogram(count=%d, mean=%.3f, p50=%d, p99=%d, max=%d)",
+                getCount(), getMean(), getPercentile(50), getPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,81 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the points scored per roll, final scores and rolls per game of every game it is added
+ * to into LogBucketHistograms. One instance can be shared by many concurrent games, and instances
+ * from different sessions can be merged.
+ * <p>
+ * Progress is tracked per player and reused from game to game, so events allocate nothing once a
+ * player has played; a player is expected to be in one game at a time.
+ */
+public class StatisticsGameEventListener implements GameEventListener {
+
+    private final LogBucketHistogram scorePerRoll = new LogBucketHistogram();
+    private final LogBucketHistogram finalScores = new LogBucketHistogram();
+    private final LogBucketHistogram rollsPerGame = new LogBucketHistogram();
+    private final ConcurrentHashMap<PlayerName, GameProgress> progress = new ConcurrentHashMap<>();
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+        progress.computeIfAbsent(playerName, name -> new GameProgress()).reset();
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+        GameProgress game = progress.get(playerName);
+        if (game == null) {
+            // Joined mid-game: the points before this roll are unknown, so start counting here
+            game = progress.computeIfAbsent(playerName, name -> new GameProgress());
+            game.lastScore = score.getValue();
+            game.rolls = 1;
+            return;
+        }
+        scorePerRoll.record(Math.max(0, score.getValue() - game.lastScore));
+        game.lastScore = score.getValue();
+        game.rolls++;
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        finalScores.record(finalScore.getValue());
+        GameProgress game = progress.get(playerName);
+        if (game != null) {
+            rollsPerGame.record(game.rolls);
+        }
+    }
+
+    public StatisticsGameEventListener merge(StatisticsGameEventListener other) {
+        scorePerRoll.merge(other.scorePerRoll);
+        finalScores.merge(other.finalScores);
+        rollsPerGame.merge(other.rollsPerGame);
+        return this;
+    }
+
+    public LogBucketHistogram getScorePerRoll() {
+        return scorePerRoll;
+    }
+
+    public LogBucketHistogram getFinalScores() {
+        return finalScores;
+    }
+
+    public LogBucketHistogram getRollsPerGame() {
+        return rollsPerGame;
+    }
+
+    private static final class GameProgress {
+        private int lastScore;
+        private int rolls;
+
+        void reset() {
+            lastScore = 0;
+            rolls = 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package uk.ac.mmu.game.applicationcode.scoringStrategies;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+/**
+ * Composes strategies so that each stage scores the points awarded by the stage before it:
+ * bonus-six then double-even turns a 6 into 12 and then doubles it to 24.
+ */
+public class ChainedScoringStrategy implements ScoringStrategies, IntScoringStrategy {
+
+    private final IntScoringStrategy[] stages;
+
+    public ChainedScoringStrategy(IntScoringStrategy... stages) {
+        if (stages.length == 0) {
+            throw new IllegalArgumentException("At least one scoring stage is required");
+        }
+        this.stages = stages.clone();
+    }
+
+    @Override
+    public Score calculateScore(Score currentScore, DiceRoll roll) {
+        return Score.of(calculateScore(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int calculateScore(int currentScore, int roll) {
+        int points = roll;
+        for (IntScoringStrategy stage : stages) {
+            points = stage.calculateScore(0, points);
+        }
+        return currentScore + points;
+    }
+}
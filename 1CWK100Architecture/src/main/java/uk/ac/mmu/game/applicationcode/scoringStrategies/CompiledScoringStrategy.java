@@ -0,0 +1,45 @@
+package uk.ac.mmu.game.applicationcode.scoringStrategies;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.util.Arrays;
+
+/**
+ * A scoring strategy reduced to the points each face is worth, built by ScoringStrategies.compile.
+ * Index 0 is unused so a face indexes the table directly.
+ */
+public final class CompiledScoringStrategy implements ScoringStrategies, IntScoringStrategy {
+
+    static final int FACES = 7;
+    static final int[] PROBE_SCORES = {1, 17, 1000};
+
+    private final int[] deltas;
+
+    CompiledScoringStrategy(int[] deltas) {
+        this.deltas = deltas;
+    }
+
+    @Override
+    public Score calculateScore(Score currentScore, DiceRoll roll) {
+        return Score.of(calculateScore(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int calculateScore(int currentScore, int roll) {
+        return currentScore + deltas[roll];
+    }
+
+    public int getDelta(int face) {
+        return deltas[face];
+    }
+
+    public int[] toArray() {
+        return deltas.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledScoringStrategy" + Arrays.toString(Arrays.copyOfRange(deltas, 1, FACES));
+    }
+}
@@ -3,16 +3,21 @@ package uk.ac.mmu.game.applicationcode.scoringStrategies;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
 
-public class DoubleEvenScoringStrategy implements ScoringStrategies {
+public class DoubleEvenScoringStrategy implements ScoringStrategies, IntScoringStrategy {
 
     @Override
     public Score calculateScore(Score currentScore, DiceRoll roll) {
+        return Score.of(calculateScore(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int calculateScore(int currentScore, int roll) {
 
-        if (roll.getValue() % 2 == 0 ) {
-            return currentScore.add(roll.getValue() * 2);
+        if (roll % 2 == 0 ) {
+            return currentScore + roll * 2;
         }
 
-        return currentScore.add(roll.getValue());
+        return currentScore + roll;
     }
 
 
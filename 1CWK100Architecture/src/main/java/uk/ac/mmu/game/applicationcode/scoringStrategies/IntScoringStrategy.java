@@ -0,0 +1,9 @@
+package uk.ac.mmu.game.applicationcode.scoringStrategies;
+
+/**
+ * Primitive companion to ScoringStrategies for the roll hot path: works on plain ints
+ * so that scoring a roll never allocates a Score or DiceRoll.
+ */
+public interface IntScoringStrategy {
+    int calculateScore(int currentScore, int roll);
+}
@@ -5,4 +5,25 @@ import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
 
 public interface ScoringStrategies {
     Score calculateScore(Score currentScore, DiceRoll roll);
+
+    // Runs the stages in order, each one scoring the points the previous stage awarded
+    static ChainedScoringStrategy chain(IntScoringStrategy... stages) {
+        return new ChainedScoringStrategy(stages);
+    }
+
+    // Precomputes the points each face is worth so scoring a roll is one table lookup
+    static CompiledScoringStrategy compile(IntScoringStrategy... stages) {
+        IntScoringStrategy strategy = stages.length == 1 ? stages[0] : chain(stages);
+        int[] deltas = new int[CompiledScoringStrategy.FACES];
+        for (int face = 1; face < deltas.length; face++) {
+            deltas[face] = strategy.calculateScore(0, face);
+            for (int probe : CompiledScoringStrategy.PROBE_SCORES) {
+                if (strategy.calculateScore(probe, face) - probe != deltas[face]) {
+                    throw new IllegalArgumentException(
+                            "Scoring for face " + face + " depends on the current score and cannot be compiled");
+                }
+            }
+        }
+        return new CompiledScoringStrategy(deltas);
+    }
 }
@@ -0,0 +1,31 @@
+package uk.ac.mmu.game.applicationcode.scoringStrategies;
+
+// Every type hands out a compiled table; new constants go at the end because recipes store the ordinal
+public enum ScoringType {
+    SIMPLE {
+        @Override
+        public IntScoringStrategy create() {
+            return ScoringStrategies.compile(new SimpleScoringStrategy());
+        }
+    },
+    BONUS_SIX {
+        @Override
+        public IntScoringStrategy create() {
+            return ScoringStrategies.compile(new BonusSixScoringStrategy());
+        }
+    },
+    DOUBLE_EVEN {
+        @Override
+        public IntScoringStrategy create() {
+            return ScoringStrategies.compile(new DoubleEvenScoringStrategy());
+        }
+    },
+    BONUS_SIX_THEN_DOUBLE_EVEN {
+        @Override
+        public IntScoringStrategy create() {
+            return ScoringStrategies.compile(new BonusSixScoringStrategy(), new DoubleEvenScoringStrategy());
+        }
+    };
+
+    public abstract IntScoringStrategy create();
+}
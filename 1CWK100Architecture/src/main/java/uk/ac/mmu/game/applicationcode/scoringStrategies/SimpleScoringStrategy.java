@@ -4,11 +4,16 @@ import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
 import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringStrategies;
 
-public class SimpleScoringStrategy implements ScoringStrategies {
+public class SimpleScoringStrategy implements ScoringStrategies, IntScoringStrategy {
 
     @Override
     public Score calculateScore(Score currentScore, DiceRoll roll) {
-        return currentScore.add(roll.getValue());
+        return Score.of(calculateScore(currentScore.getValue(), roll.getValue()));
+    }
+
+    @Override
+    public int calculateScore(int currentScore, int roll) {
+        return currentScore + roll;
     }
 
 }
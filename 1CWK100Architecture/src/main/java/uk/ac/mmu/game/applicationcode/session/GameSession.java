@@ -0,0 +1,131 @@
+package uk.ac.mmu.game.applicationcode.session;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One hosted Game. Every command runs on the session's own virtual thread, so the Game, its
+ * DiceShaker and its listeners are only ever touched by one thread and need no locking.
+ */
+public class GameSession {
+
+    private final int gameId;
+    private final PlayerName playerName;
+    private final Game game;
+    private final ExecutorService thread;
+    private final GameSessionRegistry registry;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long lastActivityNanos;
+
+    GameSession(int gameId, PlayerName playerName, DiceShaker diceShaker, GameSessionRegistry registry) {
+        this.gameId = gameId;
+        this.playerName = playerName;
+        this.game = new Game(diceShaker);
+        this.registry = registry;
+        this.thread = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("game-session-" + gameId).factory());
+        this.lastActivityNanos = System.nanoTime();
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public PlayerName getPlayerName() {
+        return playerName;
+    }
+
+    public CompletableFuture<Void> addListener(GameEventListener listener) {
+        return submit(() -> {
+            game.addListener(listener);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> start() {
+        return submit(() -> {
+            game.start(playerName);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Score> roll() {
+        return roll(1);
+    }
+
+    public CompletableFuture<Score> roll(int times) {
+        if (times < 1) {
+            throw new IllegalArgumentException("times must be at least 1");
+        }
+        return submit(() -> {
+            for (int i = 0; i < times; i++) {
+                game.rollDice();
+            }
+            registry.recordRolls(times);
+            return game.getCurrentScore();
+        });
+    }
+
+    /**
+     * Finishes the game and closes the session once the final score is known.
+     */
+    public CompletableFuture<Score> finish() {
+        CompletableFuture<Score> result = submit(() -> {
+            game.finish();
+            return game.getCurrentScore();
+        });
+        return result.whenComplete((score, failure) -> close());
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> command) {
+        if (closed.get()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Session " + gameId + " is closed"));
+        }
+        lastActivityNanos = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            thread.execute(() -> {
+                try {
+                    result.complete(command.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+                lastActivityNanos = System.nanoTime();
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new IllegalStateException("Session " + gameId + " is closed"));
+        }
+        return result;
+    }
+
+    long getIdleNanos(long now) {
+        return now - lastActivityNanos;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Lets queued commands finish, then releases the session's thread and its registry slot.
+     *
+     * @return false if the session was already closed
+     */
+    public boolean close() {
+        if (closed.compareAndSet(false, true)) {
+            thread.shutdown();
+            registry.remove(this);
+            return true;
+        }
+        return false;
+    }
+}
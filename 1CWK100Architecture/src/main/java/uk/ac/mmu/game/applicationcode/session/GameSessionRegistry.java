@@ -0,0 +1,129 @@
+package uk.ac.mmu.game.applicationcode.session;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Hosts many concurrent GameSessions in one JVM, keyed by game id. The number of open sessions is
+ * bounded, and sessions that receive no commands for the idle timeout are closed by a sweeper.
+ */
+public class GameSessionRegistry implements AutoCloseable {
+
+    private final Map<Integer, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final IntSupplier gameIds;
+    private final long idleTimeoutNanos;
+    private final long sweepPeriodMillis;
+    private final ScheduledExecutorService sweeper;
+    private final LongAdder openedSessions = new LongAdder();
+    private final LongAdder evictedSessions = new LongAdder();
+    private final LongAdder totalRolls = new LongAdder();
+    private final long startedNanos = System.nanoTime();
+
+    public static GameSessionRegistry create(int maxSessions, Duration idleTimeout) {
+        return create(maxSessions, idleTimeout, new AtomicInteger()::incrementAndGet);
+    }
+
+    /**
+     * Creates a registry and starts its sweeper; the sweeper only sees the registry once it is fully constructed.
+     *
+     * @param gameIds source of ids for new sessions, e.g. Required::nextGameId to share ids with the journal
+     */
+    public static GameSessionRegistry create(int maxSessions, Duration idleTimeout, IntSupplier gameIds) {
+        GameSessionRegistry registry = new GameSessionRegistry(maxSessions, idleTimeout, gameIds);
+        registry.sweeper.scheduleAtFixedRate(registry::evictIdleSessions,
+                registry.sweepPeriodMillis, registry.sweepPeriodMillis, TimeUnit.MILLISECONDS);
+        return registry;
+    }
+
+    private GameSessionRegistry(int maxSessions, Duration idleTimeout, IntSupplier gameIds) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be at least 1");
+        }
+        this.slots = new Semaphore(maxSessions);
+        this.gameIds = gameIds;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweepPeriodMillis = Math.max(1, idleTimeout.toMillis() / 2);
+    }
+
+    /**
+     * Opens and starts a session for the player with its own dice shaker.
+     *
+     * @throws IllegalStateException when the registry already hosts its maximum number of sessions
+     */
+    public GameSession open(PlayerName playerName, DiceShaker diceShaker) {
+        if (!slots.tryAcquire()) {
+            throw new IllegalStateException("Session limit reached");
+        }
+        GameSession session;
+        try {
+            session = new GameSession(gameIds.getAsInt(), playerName, diceShaker, this);
+        } catch (RuntimeException | Error e) {
+            slots.release();
+            throw e;
+        }
+        sessions.put(session.getGameId(), session);
+        openedSessions.increment();
+        session.start();
+        return session;
+    }
+
+    public Optional<GameSession> find(int gameId) {
+        return Optional.ofNullable(sessions.get(gameId));
+    }
+
+    void remove(GameSession session) {
+        if (sessions.remove(session.getGameId(), session)) {
+            slots.release();
+        }
+    }
+
+    void recordRolls(int rolls) {
+        totalRolls.add(rolls);
+    }
+
+    void evictIdleSessions() {
+        long now = System.nanoTime();
+        for (GameSession session : sessions.values()) {
+            if (session.getIdleNanos(now) > idleTimeoutNanos && session.close()) {
+                evictedSessions.increment();
+            }
+        }
+    }
+
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    public GameSessionStats stats() {
+        double elapsedSeconds = (System.nanoTime() - startedNanos) / 1e9;
+        long rolls = totalRolls.sum();
+        return new GameSessionStats(sessions.size(), openedSessions.sum(), evictedSessions.sum(), rolls,
+                elapsedSeconds > 0 ? rolls / elapsedSeconds : 0.0, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+    }
+}
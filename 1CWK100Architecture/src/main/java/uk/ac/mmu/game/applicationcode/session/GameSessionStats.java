@@ -0,0 +1,54 @@
+package uk.ac.mmu.game.applicationcode.session;
+
+/**
+ * Point-in-time figures from a GameSessionRegistry, for sizing hosts by sessions per core.
+ */
+public class GameSessionStats {
+
+    private final int activeSessions;
+    private final long openedSessions;
+    private final long evictedSessions;
+    private final long totalRolls;
+    private final double rollsPerSecond;
+    private final int availableProcessors;
+
+    GameSessionStats(int activeSessions, long openedSessions, long evictedSessions, long totalRolls,
+                     double rollsPerSecond, int availableProcessors) {
+        this.activeSessions = activeSessions;
+        this.openedSessions = openedSessions;
+        this.evictedSessions = evictedSessions;
+        this.totalRolls = totalRolls;
+        this.rollsPerSecond = rollsPerSecond;
+        this.availableProcessors = availableProcessors;
+    }
+
+    public int getActiveSessions() {
+        return activeSessions;
+    }
+
+    public long getOpenedSessions() {
+        return openedSessions;
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions;
+    }
+
+    public long getTotalRolls() {
+        return totalRolls;
+    }
+
+    public double getRollsPerSecond() {
+        return rollsPerSecond;
+    }
+
+    public double getActiveSessionsPerCore() {
+        return (double) activeSessions / availableProcessors;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameSessionStats(active=%d, opened=%d, evicted=%d, rolls=%d, rolls/s=%.1f, sessions/core=%.1f)",
+                activeSessions, openedSessions, evictedSessions, totalRolls, rollsPerSecond, getActiveSessionsPerCore());
+    }
+}
@@ -0,0 +1,129 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.DiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The MonteCarloSimulation round trip played by many boards at once. Each worker keeps its boards
+ * as parallel index and moves arrays and advances every lane per step in one branch-free loop,
+ * which C2 compiles to SIMD. A lane that gets home records its move count and starts the next
+ * game; once no games are left to start, finished lanes are masked off.
+ */
+public class BatchBoardSimulation {
+
+    public static final int DEFAULT_LANES = 1024;
+    // Many games per lane, so the masked-off tail at the end of a task stays a small fraction
+    public static final int DEFAULT_GAMES_PER_TASK = 1 << 20;
+
+    private final DiceShakerFactory factory;
+    private final ForkJoinPool pool;
+    private final int lanes;
+    private final int gamesPerTask;
+
+    public BatchBoardSimulation(DiceShakerFactory factory) {
+        this(factory, ForkJoinPool.commonPool(), DEFAULT_LANES, DEFAULT_GAMES_PER_TASK);
+    }
+
+    public BatchBoardSimulation(DiceShakerFactory factory, ForkJoinPool pool, int lanes, int gamesPerTask) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("lanes must be at least 1");
+        }
+        if (gamesPerTask < 1) {
+            throw new IllegalArgumentException("gamesPerTask must be at least 1");
+        }
+        this.factory = factory;
+        this.pool = pool;
+        this.lanes = lanes;
+        this.gamesPerTask = gamesPerTask;
+    }
+
+    public MoveCountHistogram run(long games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative");
+        }
+        return pool.invoke(new BatchTask(games));
+    }
+
+    private final class BatchTask extends RecursiveTask<MoveCountHistogram> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long games;
+
+        BatchTask(long games) {
+            this.games = games;
+        }
+
+        @Override
+        protected MoveCountHistogram compute() {
+            if (games <= gamesPerTask) {
+                return playAll();
+            }
+            long half = games / 2;
+            BatchTask left = new BatchTask(half);
+            left.fork();
+            MoveCountHistogram right = new BatchTask(games - half).compute();
+            return right.merge(left.join());
+        }
+
+        private MoveCountHistogram playAll() {
+            MoveCountHistogram histogram = new MoveCountHistogram();
+            int width = (int) Math.min(lanes, games);
+            if (width == 0) {
+                return histogram;
+            }
+            DiceShaker shaker = factory.create();
+            int[] index = new int[width];
+            int[] moves = new int[width];
+            int[] live = new int[width];
+            int[] rolls = new int[width];
+            Arrays.fill(live, 1);
+            long started = width;
+            int active = width;
+
+            while (active > 0) {
+                shaker.shake(rolls, width);
+                step(index, moves, live, rolls, width);
+                for (int lane = 0; lane < width; lane++) {
+                    wrapLongRoll(index, lane);
+                    if (live[lane] != 0 && index[lane] == GameBoard.HOME) {
+                        histogram.record(moves[lane]);
+                        if (started < games) {
+                            moves[lane] = 0;
+                            started++;
+                        } else {
+                            live[lane] = 0;
+                            active--;
+                        }
+                    }
+                }
+            }
+            return histogram;
+        }
+    }
+
+    // Wraps like GameBoard's default rule without modulo: subtract LENGTH only when past END.
+    // A roll of a board length or more (four or more dice) leaves the lane past END; wrapLongRoll finishes
+    // the wrap. Dead lanes move by 0 and count no moves.
+    static void step(int[] index, int[] moves, int[] live, int[] rolls, int width) {
+        for (int lane = 0; lane < width; lane++) {
+            int target = index[lane] + rolls[lane] * live[lane];
+            index[lane] = target - (GameBoard.LENGTH & ((GameBoard.LENGTH - 1 - target) >> 31));
+            moves[lane] += live[lane];
+        }
+    }
+
+    // step keeps every lane congruent to the right position, so the remainder is exact
+    static void wrapLongRoll(int[] index, int lane) {
+        if (index[lane] > GameBoard.END) {
+            index[lane] %= GameBoard.LENGTH;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceDistribution;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Solves a GameBoard round trip analytically instead of simulating it. The board is a Markov chain
+ * over its squares, moving from i to (i + roll) % length, so the expected moves back to HOME come
+ * from one small linear system and the move-count distribution from stepping the chain forward.
+ * Solutions are cached per board length and dice distribution.
+ */
+public class MarkovRoundTripSolver {
+
+    private final Map<Key, RoundTripSolution> cache = new ConcurrentHashMap<>();
+
+    public RoundTripSolution solve(DiceDistribution distribution, int maxMoves) {
+        return solve(GameBoard.LENGTH, distribution, maxMoves);
+    }
+
+    public RoundTripSolution solve(int boardLength, DiceDistribution distribution, int maxMoves) {
+        if (boardLength < 1) {
+            throw new IllegalArgumentException("boardLength must be at least 1");
+        }
+        if (maxMoves < 0) {
+            throw new IllegalArgumentException("maxMoves must not be negative");
+        }
+        Key key = new Key(boardLength, distribution);
+        RoundTripSolution cached = cache.get(key);
+        if (cached != null && cached.getMaxMoves() >= maxMoves) {
+            return cached.truncate(maxMoves);
+        }
+        double expected = cached != null ? cached.getExpectedMoves() : expectedMoves(boardLength, distribution);
+        RoundTripSolution solution = new RoundTripSolution(expected, moveDistribution(boardLength, distribution, maxMoves));
+        cache.merge(key, solution, (old, fresh) -> old.getMaxMoves() >= fresh.getMaxMoves() ? old : fresh);
+        return solution;
+    }
+
+    // step[i][j] is the chance of moving from square i to square j in one shake
+    private static double[][] transitions(int boardLength, DiceDistribution distribution) {
+        double[][] step = new double[boardLength][boardLength];
+        for (int from = 0; from < boardLength; from++) {
+            for (int roll = distribution.getMinValue(); roll <= distribution.getMaxValue(); roll++) {
+                step[from][(from + roll) % boardLength] += distribution.probability(roll);
+            }
+        }
+        return step;
+    }
+
+    /**
+     * Hitting times t[j] of HOME from each other square satisfy t[j] = 1 + sum over k != HOME of step[j][k] * t[k].
+     * A round trip is one move from HOME followed by the hitting time from wherever it lands.
+     * Only squares reachable from HOME take part, so dice that never visit some squares still solve.
+     */
+    private static double expectedMoves(int boardLength, DiceDistribution distribution) {
+        double[][] step = transitions(boardLength, distribution);
+        int[] squares = reachableFromHome(step);
+        int n = squares.length;
+        if (n == 0) {
+            return 1.0;
+        }
+        double[][] system = new double[n][n + 1];
+        for (int j = 0; j < n; j++) {
+            for (int k = 0; k < n; k++) {
+                system[j][k] = (j == k ? 1.0 : 0.0) - step[squares[j]][squares[k]];
+            }
+            system[j][n] = 1.0;
+        }
+        double[] hittingTimes = gaussianElimination(system);
+
+        double expected = 1.0;
+        for (int k = 0; k < n; k++) {
+            expected += step[GameBoard.HOME][squares[k]] * hittingTimes[k];
+        }
+        return expected;
+    }
+
+    private static int[] reachableFromHome(double[][] step) {
+        int boardLength = step.length;
+        boolean[] reached = new boolean[boardLength];
+        int[] queue = new int[boardLength];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = GameBoard.HOME;
+        reached[GameBoard.HOME] = true;
+        while (head < tail) {
+            int from = queue[head++];
+            for (int to = 0; to < boardLength; to++) {
+                if (step[from][to] > 0.0 && !reached[to]) {
+                    reached[to] = true;
+                    queue[tail++] = to;
+                }
+            }
+        }
+        return IntStream.range(0, boardLength)
+                .filter(square -> square != GameBoard.HOME && reached[square])
+                .toArray();
+    }
+
+    private static double[] gaussianElimination(double[][] system) {
+        int n = system.length;
+        for (int column = 0; column < n; column++) {
+            int pivot = column;
+            for (int row = column + 1; row < n; row++) {
+                if (Math.abs(system[row][column]) > Math.abs(system[pivot][column])) {
+                    pivot = row;
+                }
+            }
+            if (Math.abs(system[pivot][column]) < 1e-12) {
+                throw new IllegalArgumentException("HOME cannot be reached from every square with this distribution");
+            }
+            double[] swap = system[column];
+            system[column] = system[pivot];
+            system[pivot] = swap;
+
+            for (int row = column + 1; row < n; row++) {
+                double factor = system[row][column] / system[column][column];
+                for (int k = column; k <= n; k++) {
+                    system[row][k] -= factor * system[column][k];
+                }
+            }
+        }
+        double[] solution = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double value = system[row][n];
+            for (int k = row + 1; k < n; k++) {
+                value -= system[row][k] * solution[k];
+            }
+            solution[row] = value / system[row][row];
+        }
+        return solution;
+    }
+
+    /**
+     * Pushes the probability mass of "not yet home" forward one move at a time, collecting the mass
+     * that lands on HOME at each move as the chance the round trip takes exactly that many moves.
+     */
+    private static double[] moveDistribution(int boardLength, DiceDistribution distribution, int maxMoves) {
+        double[][] step = transitions(boardLength, distribution);
+        double[] probabilities = new double[maxMoves + 1];
+        double[] away = new double[boardLength];
+        double[] next = new double[boardLength];
+        away[GameBoard.HOME] = 1.0;
+
+        for (int move = 1; move <= maxMoves; move++) {
+            Arrays.fill(next, 0.0);
+            for (int from = 0; from < boardLength; from++) {
+                if (away[from] == 0.0) {
+                    continue;
+                }
+                for (int to = 0; to < boardLength; to++) {
+                    next[to] += away[from] * step[from][to];
+                }
+            }
+            probabilities[move] = next[GameBoard.HOME];
+            next[GameBoard.HOME] = 0.0;
+            double[] swap = away;
+            away = next;
+            next = swap;
+        }
+        return probabilities;
+    }
+
+    private static final class Key {
+        private final int boardLength;
+        private final DiceDistribution distribution;
+
+        Key(int boardLength, DiceDistribution distribution) {
+            this.boardLength = boardLength;
+            this.distribution = Objects.requireNonNull(distribution);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return boardLength == key.boardLength && distribution.equals(key.distribution);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(boardLength, distribution);
+        }
+    }
+}
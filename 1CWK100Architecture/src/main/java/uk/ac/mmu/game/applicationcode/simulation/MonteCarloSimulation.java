@@ -0,0 +1,88 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.DiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many independent GameBoard round trips (the same game as GameFacade.playSimpleGame)
+ * across a fork-join pool and merges the move counts into one histogram.
+ * Every leaf task asks the factory for its own DiceShaker, so workers never share a dice stream,
+ * and pulls its rolls from it in bulk rather than one shake() per move.
+ */
+public class MonteCarloSimulation {
+
+    public static final int DEFAULT_GAMES_PER_TASK = 16_384;
+    private static final int ROLL_BUFFER_SIZE = 1024;
+
+    private final DiceShakerFactory factory;
+    private final ForkJoinPool pool;
+    private final int gamesPerTask;
+
+    public MonteCarloSimulation(DiceShakerFactory factory) {
+        this(factory, ForkJoinPool.commonPool(), DEFAULT_GAMES_PER_TASK);
+    }
+
+    public MonteCarloSimulation(DiceShakerFactory factory, ForkJoinPool pool, int gamesPerTask) {
+        if (gamesPerTask < 1) {
+            throw new IllegalArgumentException("gamesPerTask must be at least 1");
+        }
+        this.factory = factory;
+        this.pool = pool;
+        this.gamesPerTask = gamesPerTask;
+    }
+
+    public MoveCountHistogram run(long games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative");
+        }
+        return pool.invoke(new SimulationTask(games));
+    }
+
+    private final class SimulationTask extends RecursiveTask<MoveCountHistogram> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long games;
+
+        SimulationTask(long games) {
+            this.games = games;
+        }
+
+        @Override
+        protected MoveCountHistogram compute() {
+            if (games <= gamesPerTask) {
+                return playAll();
+            }
+            long half = games / 2;
+            SimulationTask left = new SimulationTask(half);
+            left.fork();
+            MoveCountHistogram right = new SimulationTask(games - half).compute();
+            return right.merge(left.join());
+        }
+
+        private MoveCountHistogram playAll() {
+            DiceShaker shaker = factory.create();
+            MoveCountHistogram histogram = new MoveCountHistogram();
+            int[] rolls = new int[ROLL_BUFFER_SIZE];
+            int next = rolls.length;
+            for (long game = 0; game < games; game++) {
+                GameBoard board = new GameBoard();
+                while (!board.isHome() || board.getMoves() == 0) {
+                    if (next == rolls.length) {
+                        shaker.shake(rolls, rolls.length);
+                        next = 0;
+                    }
+                    board.advance(rolls[next++]);
+                }
+                histogram.record(board.getMoves());
+            }
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of how many moves a GameBoard round trip took, indexed by move count.
+ * Not thread-safe: each simulation worker fills its own histogram and they are merged afterwards.
+ */
+public class MoveCountHistogram {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private long totalGames;
+    private long totalMoves;
+    private int maxMoves;
+
+    public void record(int moves) {
+        if (moves < 0) {
+            throw new IllegalArgumentException("moves must not be negative");
+        }
+        if (moves >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(moves + 1, counts.length * 2));
+        }
+        counts[moves]++;
+        totalGames++;
+        totalMoves += moves;
+        if (moves > maxMoves) {
+            maxMoves = moves;
+        }
+    }
+
+    public MoveCountHistogram merge(MoveCountHistogram other) {
+        if (other.maxMoves >= counts.length) {
+            counts = Arrays.copyOf(counts, other.maxMoves + 1);
+        }
+        for (int moves = 0; moves <= other.maxMoves; moves++) {
+            counts[moves] += other.counts[moves];
+        }
+        totalGames += other.totalGames;
+        totalMoves += other.totalMoves;
+        maxMoves = Math.max(maxMoves, other.maxMoves);
+        return this;
+    }
+
+    public long getCount(int moves) {
+        return moves >= 0 && moves < counts.length ? counts[moves] : 0;
+    }
+
+    public long getTotalGames() {
+        return totalGames;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    public double getMeanMoves() {
+        return totalGames == 0 ? 0.0 : (double) totalMoves / totalGames;
+    }
+
+    /**
+     * Smallest move count that at least the given percentage (0-100) of games finished within.
+     */
+    public int getPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long target = (long) Math.ceil(totalGames * percentile / 100.0);
+        long seen = 0;
+        for (int moves = 0; moves <= maxMoves; moves++) {
+            seen += counts[moves];
+            if (seen >= target && seen > 0) {
+                return moves;
+            }
+        }
+        return maxMoves;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(counts, maxMoves + 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MoveCountHistogram(games=%d, mean=%.3f, max=%d)", totalGames, getMeanMoves(), maxMoves);
+    }
+}
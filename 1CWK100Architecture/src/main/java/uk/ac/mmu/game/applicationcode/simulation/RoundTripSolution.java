@@ -0,0 +1,61 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+/**
+ * Exact answer to how many moves a round trip of the board takes: the expected number of moves
+ * and the probability of first arriving back at HOME on each move up to a horizon.
+ */
+public class RoundTripSolution {
+
+    private final double expectedMoves;
+    // probabilities[n] is the chance the round trip takes exactly n moves
+    private final double[] probabilities;
+
+    RoundTripSolution(double expectedMoves, double[] probabilities) {
+        this.expectedMoves = expectedMoves;
+        this.probabilities = probabilities;
+    }
+
+    public double getExpectedMoves() {
+        return expectedMoves;
+    }
+
+    public int getMaxMoves() {
+        return probabilities.length - 1;
+    }
+
+    public double probability(int moves) {
+        if (moves < 0 || moves > getMaxMoves()) {
+            throw new IllegalArgumentException("moves must be between 0 and " + getMaxMoves());
+        }
+        return probabilities[moves];
+    }
+
+    /**
+     * Chance that the round trip is over within the given number of moves.
+     */
+    public double cumulativeProbability(int moves) {
+        double total = 0.0;
+        for (int n = 0; n <= Math.min(moves, getMaxMoves()); n++) {
+            total += probabilities[n];
+        }
+        return total;
+    }
+
+    public double[] toArray() {
+        return probabilities.clone();
+    }
+
+    RoundTripSolution truncate(int maxMoves) {
+        if (maxMoves == getMaxMoves()) {
+            return this;
+        }
+        double[] truncated = new double[maxMoves + 1];
+        System.arraycopy(probabilities, 0, truncated, 0, maxMoves + 1);
+        return new RoundTripSolution(expectedMoves, truncated);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RoundTripSolution(expected=%.6f, horizon=%d)", expectedMoves, getMaxMoves());
+    }
+}
@@ -1,4 +1,20 @@
 package uk.ac.mmu.game.applicationcode.usecase;
 
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.util.Optional;
+
 public interface Required {
+    int nextGameId(); // Reserve the id of a new game
+
+    GameEventListener recorder(int gameId); // Listener that persists the events of that game
+
+    boolean isRecorded(int gameId); // Whether the events of that game were persisted
+
+    void replay(int gameId, GameEventListener listener); // Stream a persisted game back through the listener
+
+    void saveRecipe(GameRecipe recipe); // Persist what is needed to regenerate a game
+
+    Optional<GameRecipe> findRecipe(int gameId);
 }
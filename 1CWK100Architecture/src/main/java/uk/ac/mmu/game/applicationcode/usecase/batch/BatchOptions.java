@@ -0,0 +1,61 @@
+package uk.ac.mmu.game.applicationcode.usecase.batch;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+
+/**
+ * What a batch run plays. Game n is seeded from the master seed and n, so a run gives the same
+ * results whatever its parallelism.
+ */
+public class BatchOptions {
+
+    private final long games;
+    private final int rollsPerGame;
+    private final ShakerType shakerType;
+    private final ScoringType scoringType;
+    private final int parallelism;
+    private final long seed;
+
+    public BatchOptions(long games, int rollsPerGame, ShakerType shakerType, ScoringType scoringType,
+                        int parallelism, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative");
+        }
+        if (rollsPerGame < 0) {
+            throw new IllegalArgumentException("rollsPerGame must not be negative");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.games = games;
+        this.rollsPerGame = rollsPerGame;
+        this.shakerType = shakerType;
+        this.scoringType = scoringType;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public int getRollsPerGame() {
+        return rollsPerGame;
+    }
+
+    public ShakerType getShakerType() {
+        return shakerType;
+    }
+
+    public ScoringType getScoringType() {
+        return scoringType;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,37 @@
+package uk.ac.mmu.game.applicationcode.usecase.batch;
+
+import uk.ac.mmu.game.applicationcode.observers.LogBucketHistogram;
+import uk.ac.mmu.game.applicationcode.observers.StatisticsGameEventListener;
+
+public class BatchSummary {
+
+    private final BatchOptions options;
+    private final StatisticsGameEventListener statistics;
+    private final long elapsedNanos;
+
+    public BatchSummary(BatchOptions options, StatisticsGameEventListener statistics, long elapsedNanos) {
+        this.options = options;
+        this.statistics = statistics;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public BatchOptions getOptions() {
+        return options;
+    }
+
+    public LogBucketHistogram getFinalScores() {
+        return statistics.getFinalScores();
+    }
+
+    public LogBucketHistogram getScorePerRoll() {
+        return statistics.getScorePerRoll();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : options.getGames() * 1e9 / elapsedNanos;
+    }
+}
@@ -0,0 +1,10 @@
+package uk.ac.mmu.game.applicationcode.usecase.batch;
+
+public interface Provided {
+    BatchSummary simulate(BatchOptions options); // Play many headless games and summarise them
+
+    static Provided getInstance() {
+        return new UseCase();
+    }
+
+}
@@ -0,0 +1,73 @@
+package uk.ac.mmu.game.applicationcode.usecase.batch;
+
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.observers.StatisticsGameEventListener;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Plays games without console output across a fork-join pool; each leaf keeps its own statistics and they are merged
+public class UseCase implements Provided {
+
+    private static final int GAMES_PER_TASK = 4096;
+    private static final PlayerName PLAYER = new PlayerName("Batch");
+
+    @Override
+    public BatchSummary simulate(BatchOptions options) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+        try {
+            StatisticsGameEventListener statistics = pool.invoke(new BatchTask(options, 0, options.getGames()));
+            return new BatchSummary(options, statistics, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class BatchTask extends RecursiveTask<StatisticsGameEventListener> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Tasks are never serialized; ForkJoinTask is Serializable only by inheritance
+        private final transient BatchOptions options;
+        private final long from;
+        private final long to;
+
+        BatchTask(BatchOptions options, long from, long to) {
+            this.options = options;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected StatisticsGameEventListener compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playAll();
+            }
+            long middle = from + (to - from) / 2;
+            BatchTask left = new BatchTask(options, from, middle);
+            left.fork();
+            StatisticsGameEventListener right = new BatchTask(options, middle, to).compute();
+            return right.merge(left.join());
+        }
+
+        private StatisticsGameEventListener playAll() {
+            StatisticsGameEventListener statistics = new StatisticsGameEventListener();
+            for (long game = from; game < to; game++) {
+                long seed = GameRecipe.seedFor(options.getSeed(), game);
+                Game batchGame = new Game(options.getShakerType().create(seed), options.getScoringType());
+                batchGame.addListener(statistics);
+                batchGame.start(PLAYER);
+                for (int roll = 0; roll < options.getRollsPerGame(); roll++) {
+                    batchGame.rollDice();
+                }
+                batchGame.finish();
+            }
+            return statistics;
+        }
+    }
+}
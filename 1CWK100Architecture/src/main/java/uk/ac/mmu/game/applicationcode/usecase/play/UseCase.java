@@ -2,20 +2,40 @@ package uk.ac.mmu.game.applicationcode.usecase.play;
 
 import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.AbstractDiceShakerFactory;
 import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.DoubleDiceShakerFactoryMethod;
-import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.SingleDiceShakerFactoryMethod;
+import uk.ac.mmu.game.applicationcode.AbstractDiceShakerFactory.SeededDiceShakerFactoryMethod;
 import uk.ac.mmu.game.applicationcode.DiceShakers.DiceShaker;
-import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
 import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
-import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringStrategies;
-import uk.ac.mmu.game.applicationcode.scoringStrategies.SimpleScoringStrategy;
+import uk.ac.mmu.game.applicationcode.observers.ConsoleGameEventListener;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
 import uk.ac.mmu.game.applicationcode.usecase.Required;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 public class UseCase implements Provided {
 
+    private static final int ROUNDS = 5;
+
     private final Required required;
+    private final long masterSeed;
+    private final boolean journalRolls;
 
     public UseCase(Required required) {
+        this(required, false);
+    }
+
+    // Journaling every roll is only needed to verify that a game regenerates from its recipe
+    public UseCase(Required required, boolean journalRolls) {
+        this(required, ThreadLocalRandom.current().nextLong(), journalRolls);
+    }
+
+    public UseCase(Required required, long masterSeed, boolean journalRolls) {
         this.required = required;
+        this.masterSeed = masterSeed;
+        this.journalRolls = journalRolls;
     }
 
     @Override
@@ -26,25 +46,32 @@ public class UseCase implements Provided {
         
         // Use Factory Method Pattern to create dice shaker
         // Notice: We use the abstract class type, but get different implementations!
-        AbstractDiceShakerFactory factory = new SingleDiceShakerFactoryMethod();
+        // The dice are seeded from the game id, so the game can later be regenerated from its recipe
+        int gameId = required.nextGameId();
+        long seed = GameRecipe.seedFor(masterSeed, gameId);
+        AbstractDiceShakerFactory factory = new SeededDiceShakerFactoryMethod(ShakerType.SINGLE, seed);
         
         System.out.println("=== Starting Game with Factory Method Pattern ===\n");
         
         // The factory creates the shaker with all the common behavior (logging, counting)
         DiceShaker shaker = factory.create();
         
-        // Play the game using the shaker
-        Score score = Score.ZERO;
-        ScoringStrategies strategy = new SimpleScoringStrategy();
+        // Play the game using the shaker; the recipe alone is enough to replay it
+        PlayerName playerName = new PlayerName("Player " + gameId);
+        Game game = new Game(shaker, ScoringType.SIMPLE);
+        game.addListener(new ConsoleGameEventListener());
+        if (journalRolls) {
+            game.addListener(required.recorder(gameId));
+        }
+        game.start(playerName);
         
         System.out.println("\n=== Playing 5 Rounds ===");
-        for (int round = 1; round <= 5; round++) {
-            int rollValue = shaker.shake();
-            DiceRoll roll = new DiceRoll(rollValue);
-            score = strategy.calculateScore(score, roll);
-            
-            System.out.println("Round " + round + ": Rolled " + roll + " → Score: " + score);
+        for (int round = 1; round <= ROUNDS; round++) {
+            game.rollDice();
         }
+        game.finish();
+        required.saveRecipe(new GameRecipe(gameId, playerName, seed, ShakerType.SINGLE, ScoringType.SIMPLE, ROUNDS));
+        Score score = game.getCurrentScore();
         
         System.out.println("\n=== Final Score: " + score + " ===");
         System.out.println("Total DiceShakers created: " + AbstractDiceShakerFactory.getTotalCreated());
@@ -72,6 +99,6 @@ public class UseCase implements Provided {
         System.out.println("but created DIFFERENT DiceShakers (polymorphism!)");
         System.out.println("═══════════════════════════════════════════════════\n");
         
-        return 1;
+        return gameId;
     }
 }
@@ -6,6 +6,8 @@ import uk.ac.mmu.game.applicationcode.usecase.Required;
 public interface Provided {
     void replay(int gameId);
 
+    Verification verify(int gameId); // Check that regenerating the game from its recipe matches the journaled events
+
     static Provided getInstance(Required required) {
         return new UseCase(required);
     }
@@ -1,7 +1,18 @@
 package uk.ac.mmu.game.applicationcode.usecase.replay;
 
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.ConsoleGameEventListener;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
 import uk.ac.mmu.game.applicationcode.usecase.Required;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 public class UseCase implements Provided {
 
     private final Required required;
@@ -10,8 +21,57 @@ public class UseCase implements Provided {
         this.required = required;
     }
 
+    // Games with a recipe are regenerated from their seed; older games fall back to the journal
     @Override
     public void replay(int gameId) {
-        // TODO: Implement game replay logic week by week
+        Optional<GameRecipe> recipe = required.findRecipe(gameId);
+        if (recipe.isPresent()) {
+            regenerate(recipe.get(), new ConsoleGameEventListener());
+        } else {
+            required.replay(gameId, new ConsoleGameEventListener());
+        }
+    }
+
+    @Override
+    public Verification verify(int gameId) {
+        Optional<GameRecipe> recipe = required.findRecipe(gameId);
+        if (recipe.isEmpty() || !required.isRecorded(gameId)) {
+            return Verification.NOT_VERIFIABLE;
+        }
+        EventRecording regenerated = new EventRecording();
+        regenerate(recipe.get(), regenerated);
+        EventRecording journaled = new EventRecording();
+        required.replay(gameId, journaled);
+        return regenerated.events.equals(journaled.events) ? Verification.MATCHES : Verification.DIFFERS;
+    }
+
+    private static void regenerate(GameRecipe recipe, GameEventListener listener) {
+        Game game = new Game(recipe.getShakerType().create(recipe.getSeed()), recipe.getScoringType());
+        game.addListener(listener);
+        game.start(recipe.getPlayerName());
+        for (int roll = 0; roll < recipe.getRollCount(); roll++) {
+            game.rollDice();
+        }
+        game.finish();
+    }
+
+    private static final class EventRecording implements GameEventListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onGameStarted(PlayerName playerName) {
+            events.add("started " + playerName);
+        }
+
+        @Override
+        public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+            events.add(playerName + " " + roll + " " + score);
+        }
+
+        @Override
+        public void onGameEnded(PlayerName playerName, Score finalScore) {
+            events.add("ended " + playerName + " " + finalScore);
+        }
     }
 }
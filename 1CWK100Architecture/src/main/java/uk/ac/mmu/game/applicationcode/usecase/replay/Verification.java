@@ -0,0 +1,18 @@
+package uk.ac.mmu.game.applicationcode.usecase.replay;
+
+public enum Verification {
+    MATCHES("regenerated game matches the journal"),
+    DIFFERS("regenerated game differs from the journal"),
+    // Needs both a recipe and journaled rolls; rolls are only journaled with game.journal.verification=true
+    NOT_VERIFIABLE("not verifiable, the game has no recipe or no journaled rolls");
+
+    private final String description;
+
+    Verification(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,40 @@
+package uk.ac.mmu.game.infrastructure;
+
+/**
+ * Layout shared by GameEventEncoder and GameEventDecoder.
+ *
+ * Stream: magic "GEV1", then blocks. Block: payload length (varint), event count (varint),
+ * payload, CRC32C of the payload (int, big-endian).
+ *
+ * Every event starts with a header byte: type in bits 7-6, bit 5 set when the event is for the
+ * same player as the one before it (otherwise the player's dictionary id follows as a varint),
+ * and for a roll the die face in bits 2-0.
+ * NAME: length (varint) + UTF-8 name, defining the next dictionary id. STARTED: nothing more.
+ * ROLL and ENDED: the change from the player's previous score as a zigzag varint.
+ * The dictionary and the previous scores carry over from block to block.
+ */
+final class EventStreamFormat {
+
+    static final byte[] MAGIC = {'G', 'E', 'V', '1'};
+    static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    static final int STARTED = 0;
+    static final int ROLL = 1;
+    static final int ENDED = 2;
+    static final int NAME = 3;
+
+    static final int TYPE_SHIFT = 6;
+    static final int SAME_PLAYER = 1 << 5;
+    static final int FACE_MASK = 0b111;
+
+    private EventStreamFormat() {
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
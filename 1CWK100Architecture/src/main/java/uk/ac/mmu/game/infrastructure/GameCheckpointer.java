@@ -0,0 +1,174 @@
+package uk.ac.mmu.game.infrastructure;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.Game;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameSnapshot;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checkpoints a live Game to a file when it starts, every N rolls and when it ends, so a
+ * restarted process can resume it with resume(file). The snapshot (a few dozen bytes) is taken on the
+ * rolling thread and written on a background thread, replacing the file atomically. If a write is
+ * still running when the next checkpoint is due, only the newest snapshot is kept, so a crash
+ * loses at most N rolls plus those made during one write.
+ */
+public class GameCheckpointer implements GameEventListener, AutoCloseable {
+
+    private static final byte VERSION = 1;
+
+    private final Game game;
+    private final Path file;
+    private final Path temporary;
+    private final int everyRolls;
+    private final ExecutorService writer;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final AtomicLong checkpointsWritten = new AtomicLong();
+    private volatile IOException failure;
+    private int rollsSinceCheckpoint;
+
+    private GameCheckpointer(Game game, Path file, int everyRolls) {
+        if (everyRolls < 1) {
+            throw new IllegalArgumentException("everyRolls must be at least 1");
+        }
+        this.game = game;
+        this.file = file.toAbsolutePath();
+        this.temporary = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        this.everyRolls = everyRolls;
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("game-checkpoint").factory());
+    }
+
+    // Creates a checkpointer and adds it to the game's listeners
+    public static GameCheckpointer attach(Game game, Path file, int everyRolls) {
+        GameCheckpointer checkpointer = new GameCheckpointer(game, file, everyRolls);
+        game.addListener(checkpointer);
+        return checkpointer;
+    }
+
+    public static Optional<Game> resume(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Game.restore(decode(Files.readAllBytes(file))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read game checkpoint " + file, e);
+        }
+    }
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+        checkpoint();
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+        if (++rollsSinceCheckpoint >= everyRolls) {
+            checkpoint();
+        }
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        checkpoint();
+    }
+
+    private void checkpoint() {
+        rollsSinceCheckpoint = 0;
+        if (pending.getAndSet(encode(game.snapshot())) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        byte[] bytes = pending.getAndSet(null);
+        if (bytes == null) {
+            return;
+        }
+        try {
+            Files.write(temporary, bytes);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpointsWritten.incrementAndGet();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    public long getCheckpointsWritten() {
+        return checkpointsWritten.get();
+    }
+
+    // Writes the last checkpoint and stops the writer; reports a write that failed along the way
+    @Override
+    public void close() {
+        game.removeListener(this);
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out writing the last checkpoint to " + file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        IOException error = failure;
+        if (error != null) {
+            throw new UncheckedIOException("Cannot write game checkpoint " + file, error);
+        }
+    }
+
+    static byte[] encode(GameSnapshot snapshot) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            out.writeByte(snapshot.getShakerType().ordinal());
+            out.writeByte(snapshot.getScoringType().ordinal());
+            out.writeLong(snapshot.getSeed());
+            out.writeLong(snapshot.getShakerPosition());
+            out.writeInt(snapshot.getScore());
+            out.writeInt(snapshot.getRolls());
+            out.writeBoolean(snapshot.getPlayerName() != null);
+            if (snapshot.getPlayerName() != null) {
+                out.writeUTF(snapshot.getPlayerName().getName());
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static GameSnapshot decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readByte() != VERSION) {
+            throw new StreamCorruptedException("Unknown game checkpoint version");
+        }
+        ShakerType shakerType = ShakerType.values()[in.readByte()];
+        ScoringType scoringType = ScoringType.values()[in.readByte()];
+        long seed = in.readLong();
+        long position = in.readLong();
+        int score = in.readInt();
+        int rolls = in.readInt();
+        PlayerName playerName = in.readBoolean() ? new PlayerName(in.readUTF()) : null;
+        return new GameSnapshot(playerName, score, rolls, shakerType, seed, position, scoringType);
+    }
+}
@@ -0,0 +1,174 @@
+package uk.ac.mmu.game.infrastructure;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a stream written by GameEventEncoder back into GameEventListener calls, one block at a
+ * time. A block's checksum is verified before any of its events are delivered, so a corrupt or
+ * truncated block is reported as an exception rather than replayed.
+ */
+public class GameEventDecoder implements AutoCloseable {
+
+    private final InputStream in;
+    private final CRC32C crc = new CRC32C();
+    private final List<PlayerName> dictionary = new ArrayList<>();
+    private int[] lastScores = new int[16];
+
+    private byte[] block = new byte[EventStreamFormat.DEFAULT_BLOCK_SIZE + 64];
+    private int position;
+    private int limit;
+    private int lastPlayerId = -1;
+    private long eventsRead;
+
+    public GameEventDecoder(InputStream in) throws IOException {
+        this.in = in;
+        byte[] magic = in.readNBytes(EventStreamFormat.MAGIC.length);
+        if (!Arrays.equals(magic, EventStreamFormat.MAGIC)) {
+            throw new StreamCorruptedException("Not a game event stream");
+        }
+    }
+
+    public long replay(GameEventListener listener) throws IOException {
+        while (readBlock(listener)) {
+            // each block is delivered as it is read
+        }
+        return eventsRead;
+    }
+
+    // Delivers the next block's events to the listener; false once the stream is exhausted
+    public boolean readBlock(GameEventListener listener) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+        int length = readStreamVarint(first);
+        int records = readStreamVarint(in.read());
+        if (length < 0 || records < 0) {
+            throw new StreamCorruptedException("Event block header is out of range");
+        }
+        if (length > block.length) {
+            // The length is not yet checksummed, so grow only as the bytes actually arrive
+            byte[] larger = in.readNBytes(length);
+            if (larger.length != length) {
+                throw new EOFException("Truncated event block");
+            }
+            block = larger;
+        } else if (in.readNBytes(block, 0, length) != length) {
+            throw new EOFException("Truncated event block");
+        }
+        byte[] stored = in.readNBytes(4);
+        if (stored.length != 4) {
+            throw new EOFException("Truncated event block checksum");
+        }
+        int checksum = (stored[0] & 0xFF) << 24 | (stored[1] & 0xFF) << 16 | (stored[2] & 0xFF) << 8 | (stored[3] & 0xFF);
+        crc.reset();
+        crc.update(block, 0, length);
+        if ((int) crc.getValue() != checksum) {
+            throw new StreamCorruptedException("Event block checksum mismatch");
+        }
+
+        position = 0;
+        limit = length;
+        int decoded = 0;
+        while (position < limit) {
+            decodeRecord(listener);
+            decoded++;
+        }
+        if (decoded != records) {
+            throw new StreamCorruptedException("Event block holds " + decoded + " records, header says " + records);
+        }
+        return true;
+    }
+
+    private void decodeRecord(GameEventListener listener) throws IOException {
+        int header = block[position++] & 0xFF;
+        int type = header >>> EventStreamFormat.TYPE_SHIFT;
+        if (type == EventStreamFormat.NAME) {
+            int nameLength = readVarint();
+            dictionary.add(new PlayerName(new String(block, position, nameLength, StandardCharsets.UTF_8)));
+            position += nameLength;
+            if (dictionary.size() > lastScores.length) {
+                lastScores = Arrays.copyOf(lastScores, lastScores.length * 2);
+            }
+            return;
+        }
+
+        int id = (header & EventStreamFormat.SAME_PLAYER) != 0 ? lastPlayerId : readVarint();
+        if (id < 0 || id >= dictionary.size()) {
+            throw new StreamCorruptedException("Unknown player id " + id);
+        }
+        lastPlayerId = id;
+        PlayerName playerName = dictionary.get(id);
+
+        switch (type) {
+            case EventStreamFormat.STARTED -> {
+                lastScores[id] = 0;
+                listener.onGameStarted(playerName);
+            }
+            case EventStreamFormat.ROLL -> {
+                int score = lastScores[id] + EventStreamFormat.unzigzag(readVarint());
+                lastScores[id] = score;
+                listener.onRollMade(playerName, DiceRoll.of(header & EventStreamFormat.FACE_MASK), Score.of(score));
+            }
+            default -> {
+                int score = lastScores[id] + EventStreamFormat.unzigzag(readVarint());
+                lastScores[id] = score;
+                listener.onGameEnded(playerName, Score.of(score));
+            }
+        }
+        eventsRead++;
+    }
+
+    private int readVarint() throws StreamCorruptedException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (position >= limit) {
+                throw new StreamCorruptedException("Varint runs past the end of its block");
+            }
+            int next = block[position++];
+            value |= (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Varint is too long");
+    }
+
+    private int readStreamVarint(int first) throws IOException {
+        int value = 0;
+        int next = first;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (next < 0) {
+                throw new EOFException("Truncated event block header");
+            }
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+            next = in.read();
+        }
+        throw new StreamCorruptedException("Block header varint is too long");
+    }
+
+    public long getEventsRead() {
+        return eventsRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,206 @@
+package uk.ac.mmu.game.infrastructure;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * A GameEventListener that writes the events it hears as a compact stream (see EventStreamFormat):
+ * a typical roll takes two bytes. Events are buffered into checksummed blocks written when a block
+ * fills, on flush() and on close(). Not thread-safe; give each producer its own encoder.
+ */
+public class GameEventEncoder implements GameEventListener, Flushable, AutoCloseable {
+
+    private final OutputStream out;
+    private final int blockSize;
+    private final CRC32C crc = new CRC32C();
+    private final byte[] frame = new byte[10];
+    private final Map<PlayerName, Integer> dictionary = new HashMap<>();
+    private int[] lastScores = new int[16];
+
+    private byte[] block;
+    private int length;
+    private int events;
+    private PlayerName lastPlayer;
+    private int lastPlayerId = -1;
+    private long bytesWritten;
+    private long eventsWritten;
+
+    public GameEventEncoder(OutputStream out) {
+        this(out, EventStreamFormat.DEFAULT_BLOCK_SIZE);
+    }
+
+    public GameEventEncoder(OutputStream out, int blockSize) {
+        if (blockSize < 64) {
+            throw new IllegalArgumentException("blockSize must be at least 64 bytes");
+        }
+        this.out = out;
+        this.blockSize = blockSize;
+        this.block = new byte[blockSize + 64];
+        try {
+            out.write(EventStreamFormat.MAGIC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write event stream header", e);
+        }
+        bytesWritten = EventStreamFormat.MAGIC.length;
+    }
+
+    @Override
+    public void onGameStarted(PlayerName playerName) {
+        int id = header(EventStreamFormat.STARTED, 0, playerName);
+        lastScores[id] = 0;
+        endEvent();
+    }
+
+    @Override
+    public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+        int id = header(EventStreamFormat.ROLL, roll.getValue(), playerName);
+        writeScore(id, score.getValue());
+        endEvent();
+    }
+
+    @Override
+    public void onGameEnded(PlayerName playerName, Score finalScore) {
+        int id = header(EventStreamFormat.ENDED, 0, playerName);
+        writeScore(id, finalScore.getValue());
+        endEvent();
+    }
+
+    private int header(int type, int face, PlayerName playerName) {
+        if (playerName == lastPlayer || playerName.equals(lastPlayer)) {
+            writeByte(type << EventStreamFormat.TYPE_SHIFT | EventStreamFormat.SAME_PLAYER | face);
+            return lastPlayerId;
+        }
+        int id = idOf(playerName);
+        writeByte(type << EventStreamFormat.TYPE_SHIFT | face);
+        writeVarint(id);
+        lastPlayer = playerName;
+        lastPlayerId = id;
+        return id;
+    }
+
+    private int idOf(PlayerName playerName) {
+        Integer known = dictionary.get(playerName);
+        if (known != null) {
+            return known;
+        }
+        int id = dictionary.size();
+        byte[] name = playerName.getName().getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(name.length + 10);
+        writeByte(EventStreamFormat.NAME << EventStreamFormat.TYPE_SHIFT);
+        writeVarint(name.length);
+        System.arraycopy(name, 0, block, length, name.length);
+        length += name.length;
+        events++;
+        dictionary.put(playerName, id);
+        if (id == lastScores.length) {
+            lastScores = Arrays.copyOf(lastScores, id * 2);
+        }
+        return id;
+    }
+
+    private void writeScore(int id, int score) {
+        writeVarint(EventStreamFormat.zigzag(score - lastScores[id]));
+        lastScores[id] = score;
+    }
+
+    private void endEvent() {
+        events++;
+        eventsWritten++;
+        if (length >= blockSize) {
+            writeBlock();
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        block[length++] = (byte) value;
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            block[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        block[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > block.length) {
+            block = Arrays.copyOf(block, Math.max(block.length * 2, length + extra));
+        }
+    }
+
+    private void writeBlock() {
+        if (events == 0) {
+            return;
+        }
+        crc.reset();
+        crc.update(block, 0, length);
+        int checksum = (int) crc.getValue();
+        int frameLength = putVarint(frame, putVarint(frame, 0, length), events);
+        try {
+            out.write(frame, 0, frameLength);
+            out.write(block, 0, length);
+            out.write(checksum >>> 24);
+            out.write(checksum >>> 16);
+            out.write(checksum >>> 8);
+            out.write(checksum);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write event block", e);
+        }
+        bytesWritten += frameLength + length + 4;
+        length = 0;
+        events = 0;
+    }
+
+    private static int putVarint(byte[] target, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+
+    // Bytes handed to the stream so far, including block framing and checksums
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getEventsWritten() {
+        return eventsWritten;
+    }
+
+    @Override
+    public void flush() {
+        writeBlock();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot flush event stream", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close event stream", e);
+        }
+    }
+}
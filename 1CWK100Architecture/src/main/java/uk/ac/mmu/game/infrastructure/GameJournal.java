@@ -0,0 +1,324 @@
+package uk.ac.mmu.game.infrastructure;
+
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only journal of game events kept in memory-mapped segment files.
+ *
+ * Every record carries the position of the next record of the same game, patched in when that
+ * record is appended, and index.dat maps each game id to the position of its first record.
+ * Replaying a game is therefore one index lookup followed by a walk along its own records,
+ * touching only the pages those records live on however large the journal grows.
+ *
+ * Record layout: type (byte), game id (int), next position (long), then
+ * STARTED: name length (short) + UTF-8 name, ROLL: roll (byte) + score (int), ENDED: score (int).
+ */
+public class GameJournal implements AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private static final byte FREE = 0;
+    private static final byte STARTED = 1;
+    private static final byte ROLL = 2;
+    private static final byte ENDED = 3;
+
+    private static final int HEADER_SIZE = 1 + 4 + 8;
+    private static final int NEXT_OFFSET = 1 + 4;
+    private static final long NONE = -1L;
+
+    private static final int INDEX_HEADER_SIZE = 16;
+    private static final int INDEX_SLOT_SIZE = 8;
+    private static final int INDEX_GROWTH = 64 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<Integer, Long> lastRecordOfGame = new HashMap<>();
+    private MappedByteBuffer index;
+    private int indexCapacity;
+    private int gameCount;
+    private long writePosition;
+
+    public GameJournal(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public GameJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            openIndex(segmentSize);
+            this.segmentSize = index.getInt(0);
+            openSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open game journal in " + directory, e);
+        }
+    }
+
+    private void openIndex(int requestedSegmentSize) throws IOException {
+        Path file = directory.resolve("index.dat");
+        boolean exists = Files.exists(file);
+        int slots = exists ? (int) ((Files.size(file) - INDEX_HEADER_SIZE) / INDEX_SLOT_SIZE) : INDEX_GROWTH;
+        mapIndex(Math.max(slots, INDEX_GROWTH));
+        if (!exists) {
+            index.putInt(0, requestedSegmentSize);
+            index.putInt(4, 0);
+        }
+        gameCount = index.getInt(4);
+    }
+
+    private void mapIndex(int slots) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve("index.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            index = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER_SIZE + (long) slots * INDEX_SLOT_SIZE);
+        }
+        indexCapacity = slots;
+    }
+
+    private void openSegments() throws IOException {
+        int number = 0;
+        while (Files.exists(segmentFile(number))) {
+            segments.add(mapSegment(number));
+            number++;
+        }
+        if (segments.isEmpty()) {
+            segments.add(mapSegment(0));
+        }
+        int last = segments.size() - 1;
+        writePosition = (long) last * segmentSize + findEndOfSegment(segments.get(last));
+    }
+
+    // Unused space in a mapped segment reads as zero, so the first FREE record marks the end
+    private int findEndOfSegment(MappedByteBuffer segment) {
+        int offset = 0;
+        while (offset + HEADER_SIZE <= segmentSize && segment.get(offset) != FREE) {
+            offset += recordSize(segment, offset);
+        }
+        return offset;
+    }
+
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("segment-%05d.log", number));
+    }
+
+    private MappedByteBuffer mapSegment(int number) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(number),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private static int recordSize(MappedByteBuffer segment, int offset) {
+        return switch (segment.get(offset)) {
+            case STARTED -> HEADER_SIZE + 2 + segment.getShort(offset + HEADER_SIZE);
+            case ROLL -> HEADER_SIZE + 1 + 4;
+            case ENDED -> HEADER_SIZE + 4;
+            default -> throw new IllegalStateException("Corrupt journal record at offset " + offset);
+        };
+    }
+
+    public synchronized int nextGameId() {
+        int gameId = gameCount + 1;
+        if (gameId > indexCapacity) {
+            try {
+                index.force();
+                mapIndex(indexCapacity + INDEX_GROWTH);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot grow game journal index", e);
+            }
+        }
+        index.putLong(indexSlot(gameId), NONE);
+        gameCount = gameId;
+        index.putInt(4, gameCount);
+        return gameId;
+    }
+
+    private static int indexSlot(int gameId) {
+        return INDEX_HEADER_SIZE + (gameId - 1) * INDEX_SLOT_SIZE;
+    }
+
+    public synchronized void appendGameStarted(int gameId, PlayerName playerName) {
+        checkGameId(gameId);
+        byte[] name = playerName.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Player name too long to journal");
+        }
+        int size = HEADER_SIZE + 2 + name.length;
+        MappedByteBuffer segment = reserve(size, gameId, STARTED);
+        int offset = offsetOf(writePosition);
+        segment.putShort(offset + HEADER_SIZE, (short) name.length);
+        segment.put(offset + HEADER_SIZE + 2, name);
+        index.putLong(indexSlot(gameId), writePosition);
+        lastRecordOfGame.remove(gameId);
+        commit(gameId, STARTED, size);
+    }
+
+    public synchronized void appendRoll(int gameId, int roll, int score) {
+        MappedByteBuffer segment = reserve(HEADER_SIZE + 1 + 4, gameId, ROLL);
+        int offset = offsetOf(writePosition);
+        segment.put(offset + HEADER_SIZE, (byte) roll);
+        segment.putInt(offset + HEADER_SIZE + 1, score);
+        commit(gameId, ROLL, HEADER_SIZE + 1 + 4);
+    }
+
+    public synchronized void appendGameEnded(int gameId, int finalScore) {
+        MappedByteBuffer segment = reserve(HEADER_SIZE + 4, gameId, ENDED);
+        int offset = offsetOf(writePosition);
+        segment.putInt(offset + HEADER_SIZE, finalScore);
+        commit(gameId, ENDED, HEADER_SIZE + 4);
+        lastRecordOfGame.remove(gameId);
+    }
+
+    private MappedByteBuffer reserve(int size, int gameId, byte type) {
+        if (type != STARTED && !lastRecordOfGame.containsKey(gameId)) {
+            throw new IllegalStateException("Game " + gameId + " has not been started in this journal");
+        }
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Record larger than a journal segment");
+        }
+        // A record that ended exactly on a segment boundary leaves writePosition at the start of an unmapped segment
+        if (segmentOf(writePosition) >= segments.size() || offsetOf(writePosition) + size > segmentSize) {
+            rollSegment();
+        }
+        MappedByteBuffer segment = segments.get(segmentOf(writePosition));
+        int offset = offsetOf(writePosition);
+        segment.putInt(offset + 1, gameId);
+        segment.putLong(offset + NEXT_OFFSET, NONE);
+        return segment;
+    }
+
+    // Writing the type byte last makes the record visible to the end-of-segment scan only once complete
+    private void commit(int gameId, byte type, int size) {
+        MappedByteBuffer segment = segments.get(segmentOf(writePosition));
+        int offset = offsetOf(writePosition);
+        Long previous = lastRecordOfGame.put(gameId, writePosition);
+        if (previous != null) {
+            segments.get(segmentOf(previous)).putLong(offsetOf(previous) + NEXT_OFFSET, writePosition);
+        }
+        segment.put(offset, type);
+        writePosition += size;
+    }
+
+    private void rollSegment() {
+        segments.get(segments.size() - 1).force();
+        try {
+            segments.add(mapSegment(segments.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll game journal segment", e);
+        }
+        writePosition = (long) (segments.size() - 1) * segmentSize;
+    }
+
+    private int segmentOf(long position) {
+        return (int) (position / segmentSize);
+    }
+
+    private int offsetOf(long position) {
+        return (int) (position % segmentSize);
+    }
+
+    private void checkGameId(int gameId) {
+        if (gameId < 1 || gameId > gameCount) {
+            throw new IllegalArgumentException("Unknown game id " + gameId);
+        }
+    }
+
+    public synchronized boolean isRecorded(int gameId) {
+        return gameId >= 1 && gameId <= gameCount && index.getLong(indexSlot(gameId)) != NONE;
+    }
+
+    /**
+     * Streams one game's events, in the order they were appended, through the listener callbacks.
+     */
+    public void replay(int gameId, GameEventListener listener) {
+        long position;
+        synchronized (this) {
+            checkGameId(gameId);
+            position = index.getLong(indexSlot(gameId));
+        }
+        if (position == NONE) {
+            throw new IllegalArgumentException("Game " + gameId + " has no recorded events");
+        }
+        PlayerName playerName = null;
+        while (position != NONE) {
+            byte type;
+            long next;
+            int value;
+            int score = 0;
+            String name = null;
+            synchronized (this) {
+                MappedByteBuffer segment = segments.get(segmentOf(position));
+                int offset = offsetOf(position);
+                type = segment.get(offset);
+                next = segment.getLong(offset + NEXT_OFFSET);
+                if (type == STARTED) {
+                    byte[] bytes = new byte[segment.getShort(offset + HEADER_SIZE)];
+                    segment.get(offset + HEADER_SIZE + 2, bytes);
+                    name = new String(bytes, StandardCharsets.UTF_8);
+                    value = 0;
+                } else if (type == ROLL) {
+                    value = segment.get(offset + HEADER_SIZE);
+                    score = segment.getInt(offset + HEADER_SIZE + 1);
+                } else {
+                    value = segment.getInt(offset + HEADER_SIZE);
+                }
+            }
+            switch (type) {
+                case STARTED -> {
+                    playerName = new PlayerName(name);
+                    listener.onGameStarted(playerName);
+                }
+                case ROLL -> listener.onRollMade(playerName, DiceRoll.of(value), Score.of(score));
+                case ENDED -> listener.onGameEnded(playerName, Score.of(value));
+                default -> throw new IllegalStateException("Corrupt journal record at position " + position);
+            }
+            position = next;
+        }
+    }
+
+    /**
+     * A listener that appends the events of one game to this journal.
+     */
+    public GameEventListener recorder(int gameId) {
+        return new GameEventListener() {
+            @Override
+            public void onGameStarted(PlayerName playerName) {
+                appendGameStarted(gameId, playerName);
+            }
+
+            @Override
+            public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+                appendRoll(gameId, roll.getValue(), score.getValue());
+            }
+
+            @Override
+            public void onGameEnded(PlayerName playerName, Score finalScore) {
+                appendGameEnded(gameId, finalScore.getValue());
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        index.force();
+    }
+}
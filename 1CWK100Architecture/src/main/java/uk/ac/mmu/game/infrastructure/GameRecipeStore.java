@@ -0,0 +1,102 @@
+package uk.ac.mmu.game.infrastructure;
+
+import uk.ac.mmu.game.applicationcode.DiceShakers.ShakerType;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.scoringStrategies.ScoringType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Append-only file of GameRecipes, loaded into memory on start. Each recipe takes about twenty bytes
+ * plus the player name, however many rolls the game had.
+ *
+ * Record layout: game id (int), seed (long), shaker type (byte), scoring type (byte),
+ * roll count (int), then the player name as modified UTF-8.
+ */
+public class GameRecipeStore implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<Integer, GameRecipe> recipes = new HashMap<>();
+
+    public GameRecipeStore(Path file) {
+        this.file = file;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open game recipes " + file, e);
+        }
+    }
+
+    // A record cut short by a crash is dropped so the next save starts on a record boundary
+    private void load() throws IOException {
+        long validLength = 0;
+        DataInputStream in = new DataInputStream(Channels.newInputStream(channel.position(0)));
+        try {
+            while (true) {
+                int gameId = in.readInt();
+                long seed = in.readLong();
+                ShakerType shakerType = ShakerType.values()[in.readByte()];
+                ScoringType scoringType = ScoringType.values()[in.readByte()];
+                int rollCount = in.readInt();
+                PlayerName playerName = new PlayerName(in.readUTF());
+                recipes.put(gameId, new GameRecipe(gameId, playerName, seed, shakerType, scoringType, rollCount));
+                validLength = channel.position();
+            }
+        } catch (EOFException e) {
+            channel.truncate(validLength);
+            channel.position(validLength);
+        }
+    }
+
+    public synchronized void save(GameRecipe recipe) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(recipe.getGameId());
+            out.writeLong(recipe.getSeed());
+            out.writeByte(recipe.getShakerType().ordinal());
+            out.writeByte(recipe.getScoringType().ordinal());
+            out.writeInt(recipe.getRollCount());
+            out.writeUTF(recipe.getPlayerName().getName());
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            recipes.put(recipe.getGameId(), recipe);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save game recipe to " + file, e);
+        }
+    }
+
+    public synchronized Optional<GameRecipe> find(int gameId) {
+        return Optional.ofNullable(recipes.get(gameId));
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close game recipes " + file, e);
+        }
+    }
+}
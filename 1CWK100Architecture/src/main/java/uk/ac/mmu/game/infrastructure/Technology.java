@@ -1,9 +1,59 @@
 package uk.ac.mmu.game.infrastructure;
 
+import uk.ac.mmu.game.applicationcode.domainmodel.values.GameRecipe;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
 import uk.ac.mmu.game.applicationcode.usecase.Required;
 
-public class Technology implements Required {
-}
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class Technology implements Required, AutoCloseable {
+
+    private final GameJournal journal;
+    private final GameRecipeStore recipes;
+
+    public Technology() {
+        this(Path.of("game-journal"));
+    }
+
+    public Technology(Path journalDirectory) {
+        this.journal = new GameJournal(journalDirectory);
+        this.recipes = new GameRecipeStore(journalDirectory.resolve("recipes.dat"));
+    }
 
+    @Override
+    public int nextGameId() {
+        return journal.nextGameId();
+    }
 
+    @Override
+    public GameEventListener recorder(int gameId) {
+        return journal.recorder(gameId);
+    }
 
+    @Override
+    public boolean isRecorded(int gameId) {
+        return journal.isRecorded(gameId);
+    }
+
+    @Override
+    public void replay(int gameId, GameEventListener listener) {
+        journal.replay(gameId, listener);
+    }
+
+    @Override
+    public void saveRecipe(GameRecipe recipe) {
+        recipes.save(recipe);
+    }
+
+    @Override
+    public Optional<GameRecipe> findRecipe(int gameId) {
+        return recipes.find(gameId);
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+        recipes.close();
+    }
+}
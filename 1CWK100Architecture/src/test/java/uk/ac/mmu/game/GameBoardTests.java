@@ -0,0 +1,41 @@
+package uk.ac.mmu.game;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.applicationcode.movementStrategies.MovementRule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class GameBoardTests {
+
+    @Test
+    void wrapsAnyRollAroundTheBoard() {
+        for (int roll = 0; roll <= 100; roll++) {
+            GameBoard board = new GameBoard();
+            board.advance(5);
+            board.advance(roll);
+
+            assertThat(board.getIndex()).as("roll %d", roll).isEqualTo((5 + roll) % GameBoard.LENGTH);
+        }
+    }
+
+    @Test
+    void rejectsNegativeRolls() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GameBoard().advance(-1));
+    }
+
+    @Test
+    void rejectsRollsPastTheTableForRulesThatDoNotWrap() {
+        GameBoard board = new GameBoard(MovementRule.CLAMP.compile(GameBoard.END));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> board.advance(13));
+    }
+
+    @Test
+    void largerTablesAcceptLargerRolls() {
+        GameBoard board = new GameBoard(MovementRule.CLAMP.compile(GameBoard.END, 18));
+        board.advance(18);
+
+        assertThat(board.getIndex()).isEqualTo(18);
+    }
+}
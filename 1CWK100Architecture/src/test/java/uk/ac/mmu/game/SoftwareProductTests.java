@@ -0,0 +1,65 @@
+package uk.ac.mmu.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.UseMainMethod;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.ac.mmu.game.applicationcode.usecase.Required;
+import uk.ac.mmu.game.applicationcode.usecase.replay.Verification;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Starts the application through main, so the beans are registered exactly as in production.
+// No game mode matches, so neither the interactive runners nor the batch runner start.
+@SpringBootTest(useMainMethod = UseMainMethod.ALWAYS, args = "--game.mode=smoke-test")
+class SoftwareProductTests {
+
+    @TempDir
+    static Path journal;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("game.journal.directory", journal::toString);
+    }
+
+    @Autowired
+    Required required;
+
+    @Autowired
+    uk.ac.mmu.game.applicationcode.usecase.play.Provided play;
+
+    @Autowired
+    uk.ac.mmu.game.applicationcode.usecase.replay.Provided replay;
+
+    @Autowired
+    uk.ac.mmu.game.applicationcode.usecase.batch.Provided batch;
+
+    @Test
+    void startsWithEveryUseCase() {
+        assertThat(required).isNotNull();
+        assertThat(play).isNotNull();
+        assertThat(replay).isNotNull();
+        assertThat(batch).isNotNull();
+    }
+
+    @Test
+    void playedGameIsNotJournaledByDefault() {
+        int gameId = play.play();
+
+        replay.replay(gameId);
+        assertThat(replay.verify(gameId)).isEqualTo(Verification.NOT_VERIFIABLE);
+    }
+
+    @Test
+    void journaledGameRegeneratesFromItsRecipe() {
+        int gameId = new uk.ac.mmu.game.applicationcode.usecase.play.UseCase(required, 42L, true).play();
+
+        assertThat(replay.verify(gameId)).isEqualTo(Verification.MATCHES);
+    }
+
+}
@@ -0,0 +1,157 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.AsyncGameEventDispatcher.BackpressurePolicy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class AsyncGameEventDispatcherTests {
+
+    // Two slots, one event per batch: while the gate is shut the consumer holds the first event and the ring fills
+    private static final int CAPACITY = 2;
+
+    private static final PlayerName GATE = new PlayerName("gate");
+    private static final PlayerName ALICE = new PlayerName("alice");
+    private static final PlayerName BOB = new PlayerName("bob");
+
+    @Test
+    void blockWaitsForRoomAndLosesNothing() throws InterruptedException {
+        GatedListener listener = new GatedListener();
+        try (AsyncGameEventDispatcher dispatcher = holdConsumer(BackpressurePolicy.BLOCK, listener)) {
+            dispatcher.onRollMade(ALICE, DiceRoll.of(1), Score.of(1));
+            dispatcher.onRollMade(ALICE, DiceRoll.of(2), Score.of(3));
+            Thread producer = Thread.ofPlatform().start(() -> dispatcher.onGameEnded(ALICE, Score.of(3)));
+            awaitBlocked(producer);
+
+            listener.open();
+            producer.join();
+            dispatcher.flush();
+
+            assertThat(listener.events).containsExactly("started gate", "alice 1 1", "alice 2 3", "ended alice 3");
+            assertThat(dispatcher.getDroppedEvents()).isZero();
+        }
+    }
+
+    @Test
+    void dropOldestKeepsTheNewestEvents() {
+        GatedListener listener = new GatedListener();
+        try (AsyncGameEventDispatcher dispatcher = holdConsumer(BackpressurePolicy.DROP_OLDEST, listener)) {
+            for (int roll = 1; roll <= 5; roll++) {
+                dispatcher.onRollMade(ALICE, DiceRoll.of(roll), Score.of(roll));
+            }
+
+            listener.open();
+            dispatcher.flush();
+
+            assertThat(listener.events).containsExactly("started gate", "alice 4 4", "alice 5 5");
+            assertThat(dispatcher.getDroppedEvents()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void coalesceMergesRollsOfTheSamePlayerAndOtherwiseBlocks() throws InterruptedException {
+        GatedListener listener = new GatedListener();
+        try (AsyncGameEventDispatcher dispatcher = holdConsumer(BackpressurePolicy.COALESCE, listener)) {
+            dispatcher.onGameStarted(ALICE);
+            dispatcher.onRollMade(ALICE, DiceRoll.of(1), Score.of(1));
+            dispatcher.onRollMade(ALICE, DiceRoll.of(2), Score.of(3));
+            dispatcher.onRollMade(ALICE, DiceRoll.of(6), Score.of(9));
+            Thread producer = Thread.ofPlatform().start(() -> dispatcher.onRollMade(BOB, DiceRoll.of(4), Score.of(4)));
+            awaitBlocked(producer);
+
+            listener.open();
+            producer.join();
+            dispatcher.flush();
+
+            assertThat(listener.events).containsExactly("started gate", "started alice", "alice 6 9", "bob 4 4");
+            assertThat(dispatcher.getCoalescedEvents()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void closeDeliversWhatIsQueuedAndRejectsLaterEvents() {
+        GatedListener listener = new GatedListener();
+        AsyncGameEventDispatcher dispatcher = holdConsumer(BackpressurePolicy.BLOCK, listener);
+        dispatcher.onGameStarted(ALICE);
+        dispatcher.onGameEnded(ALICE, Score.of(0));
+
+        listener.open();
+        dispatcher.close();
+
+        assertThat(listener.events).containsExactly("started gate", "started alice", "ended alice 0");
+        assertThatIllegalStateException().isThrownBy(() -> dispatcher.onGameStarted(BOB));
+    }
+
+    private static AsyncGameEventDispatcher holdConsumer(BackpressurePolicy policy, GatedListener listener) {
+        AsyncGameEventDispatcher dispatcher = new AsyncGameEventDispatcher(CAPACITY, policy, 1, Thread.ofPlatform().factory());
+        dispatcher.addListener(listener);
+        dispatcher.onGameStarted(GATE);
+        listener.awaitHeld();
+        return dispatcher;
+    }
+
+    private static void awaitBlocked(Thread producer) {
+        while (producer.getState() != Thread.State.WAITING) {
+            assertThat(producer.isAlive()).as("producer returned instead of waiting for room").isTrue();
+            Thread.onSpinWait();
+        }
+    }
+
+    // Records what it hears, holding the consumer on the gate player's start until opened
+    private static final class GatedListener implements GameEventListener {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch held = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        public void onGameStarted(PlayerName playerName) {
+            events.add("started " + playerName.getName());
+            if (playerName.equals(GATE)) {
+                held.countDown();
+                awaitUninterruptibly(gate);
+            }
+        }
+
+        @Override
+        public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+            events.add(playerName.getName() + " " + roll.getValue() + " " + score.getValue());
+        }
+
+        @Override
+        public void onGameEnded(PlayerName playerName, Score finalScore) {
+            events.add("ended " + playerName.getName() + " " + finalScore.getValue());
+        }
+
+        void awaitHeld() {
+            awaitUninterruptibly(held);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
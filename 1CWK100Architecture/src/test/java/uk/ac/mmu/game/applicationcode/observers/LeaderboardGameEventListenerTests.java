@@ -0,0 +1,98 @@
+package uk.ac.mmu.game.applicationcode.observers;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class LeaderboardGameEventListenerTests {
+
+    @Test
+    void ranksBestScoresWithTiesToWhoeverGotThereFirst() {
+        LeaderboardGameEventListener leaderboard = new LeaderboardGameEventListener();
+        leaderboard.onGameEnded(new PlayerName("alice"), Score.of(10));
+        leaderboard.onGameEnded(new PlayerName("bob"), Score.of(12));
+        leaderboard.onGameEnded(new PlayerName("carol"), Score.of(10));
+        leaderboard.onGameEnded(new PlayerName("bob"), Score.of(3));
+        leaderboard.onGameEnded(new PlayerName("alice"), Score.of(15));
+
+        assertThat(leaderboard.top(3)).extracting(LeaderboardEntry::toString)
+                .containsExactly("alice 15", "bob 12", "carol 10");
+        assertThat(leaderboard.top(1)).hasSize(1);
+        assertThat(leaderboard.top(10)).hasSize(3);
+        assertThat(leaderboard.getBestScore(new PlayerName("bob"))).contains(Score.of(12));
+        assertThat(leaderboard.size()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsNegativeK() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LeaderboardGameEventListener().top(-1));
+    }
+
+    @Test
+    void topStaysConsistentUnderConcurrentUpdates() throws InterruptedException {
+        LeaderboardGameEventListener leaderboard = new LeaderboardGameEventListener();
+        PlayerName[] players = new PlayerName[200];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new PlayerName("player " + i);
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong gamesEnded = new AtomicLong();
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            SplittableRandom random = new SplittableRandom(w);
+            Thread writer = new Thread(() -> {
+                for (int score = 0; !stop.get(); score = (score + 1) & 0xFFFF) {
+                    leaderboard.onGameEnded(players[random.nextInt(players.length)], Score.of(score));
+                    gamesEnded.incrementAndGet();
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        // Best scores only ever rise, so no later snapshot may show a player lower than an earlier one
+        Map<PlayerName, Integer> seen = new HashMap<>();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        int reads = 0;
+        try {
+            while (System.nanoTime() < deadline) {
+                List<LeaderboardEntry> top = leaderboard.top(10);
+                reads++;
+                assertThat(top.size()).isLessThanOrEqualTo(10);
+                Set<PlayerName> listed = new HashSet<>();
+                for (int i = 0; i < top.size(); i++) {
+                    LeaderboardEntry entry = top.get(i);
+                    assertThat(listed.add(entry.getPlayerName())).as("one entry per player in %s", top).isTrue();
+                    if (i > 0) {
+                        assertThat(top.get(i - 1).compareTo(entry)).as("ranked order in %s", top).isNegative();
+                    }
+                    int score = entry.getScoreValue();
+                    Integer before = seen.put(entry.getPlayerName(), score);
+                    assertThat(before == null || before <= score).as("%s went back from %s", entry, before).isTrue();
+                }
+            }
+        } finally {
+            stop.set(true);
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        assertThat(reads).isPositive();
+        assertThat(gamesEnded.get()).isPositive();
+        assertThat(leaderboard.top(players.length)).hasSize(leaderboard.size());
+    }
+}
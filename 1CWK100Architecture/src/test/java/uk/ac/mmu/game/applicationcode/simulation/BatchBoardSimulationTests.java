@@ -0,0 +1,53 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.SplittableDiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.WeightedDiceShaker;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceDistribution;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BatchBoardSimulationTests {
+
+    @Test
+    void stepMovesEveryLaneLikeGameBoard() {
+        int width = 101;
+        int[] index = new int[width];
+        int[] moves = new int[width];
+        int[] live = new int[width];
+        int[] rolls = new int[width];
+        for (int lane = 0; lane < width; lane++) {
+            index[lane] = lane % GameBoard.LENGTH;
+            live[lane] = 1;
+            rolls[lane] = lane;
+        }
+
+        BatchBoardSimulation.step(index, moves, live, rolls, width);
+
+        for (int lane = 0; lane < width; lane++) {
+            BatchBoardSimulation.wrapLongRoll(index, lane);
+            GameBoard board = new GameBoard();
+            board.advance(lane % GameBoard.LENGTH);
+            board.advance(lane);
+            assertThat(index[lane]).as("lane %d", lane).isEqualTo(board.getIndex());
+            assertThat(moves[lane]).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void fourDiceStayOnTheBoard() {
+        BatchBoardSimulation simulation = new BatchBoardSimulation(
+                new SplittableDiceShakerFactory(new WeightedDiceShaker(DiceDistribution.sumOf(4), 1)),
+                ForkJoinPool.commonPool(), 64, 10_000);
+
+        MoveCountHistogram histogram = simulation.run(100_000);
+
+        // Every roll wraps round a cyclic board, so the mean time to return home is the board length
+        assertThat(histogram.getTotalGames()).isEqualTo(100_000);
+        assertThat(histogram.getMeanMoves()).isCloseTo(GameBoard.LENGTH, within(0.5));
+    }
+}
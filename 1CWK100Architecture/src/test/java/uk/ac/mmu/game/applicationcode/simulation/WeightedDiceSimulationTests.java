@@ -0,0 +1,43 @@
+package uk.ac.mmu.game.applicationcode.simulation;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.GameBoard;
+import uk.ac.mmu.game.applicationcode.DiceShakerFactory.SplittableDiceShakerFactory;
+import uk.ac.mmu.game.applicationcode.DiceShakers.WeightedDiceShaker;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceDistribution;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// Three dice roll up to 18, past the 12 a default movement table holds
+class WeightedDiceSimulationTests {
+
+    private static final int GAMES = 100_000;
+
+    @Test
+    void monteCarloSimulationPlaysThreeDice() {
+        MoveCountHistogram histogram = new MonteCarloSimulation(threeDice()).run(GAMES);
+
+        assertMeanReturnIsTheBoardLength(histogram);
+    }
+
+    @Test
+    void batchBoardSimulationPlaysThreeDice() {
+        MoveCountHistogram histogram = new BatchBoardSimulation(threeDice(), ForkJoinPool.commonPool(), 64, 10_000)
+                .run(GAMES);
+
+        assertMeanReturnIsTheBoardLength(histogram);
+    }
+
+    private static SplittableDiceShakerFactory threeDice() {
+        return new SplittableDiceShakerFactory(new WeightedDiceShaker(DiceDistribution.sumOf(3), 1));
+    }
+
+    // Every roll wraps round a cyclic board, so the mean time to return home is the board length
+    private static void assertMeanReturnIsTheBoardLength(MoveCountHistogram histogram) {
+        assertThat(histogram.getTotalGames()).isEqualTo(GAMES);
+        assertThat(histogram.getMeanMoves()).isCloseTo(GameBoard.LENGTH, within(0.5));
+    }
+}
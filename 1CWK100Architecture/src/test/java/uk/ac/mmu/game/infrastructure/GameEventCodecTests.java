@@ -0,0 +1,157 @@
+package uk.ac.mmu.game.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameEventCodecTests {
+
+    // The smallest block the encoder accepts, so a few hundred events span many blocks
+    private static final int BLOCK_SIZE = 64;
+
+    @Test
+    void replaysWhatWasEncodedAcrossBlocks() throws IOException {
+        List<String> written = new ArrayList<>();
+        byte[] stream = encode(written);
+
+        RecordingListener replayed = new RecordingListener();
+        try (GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(stream))) {
+            assertThat(decoder.replay(replayed)).isEqualTo(written.size());
+        }
+
+        assertThat(replayed.events).isEqualTo(written);
+    }
+
+    @Test
+    void reportsATruncatedStreamWithoutReplayingThePartialBlock() throws IOException {
+        List<String> written = new ArrayList<>();
+        byte[] stream = encode(written);
+
+        for (int cut = EventStreamFormat.MAGIC.length; cut < stream.length; cut++) {
+            RecordingListener replayed = new RecordingListener();
+            try (GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(stream, 0, cut))) {
+                decoder.replay(replayed);
+            } catch (IOException expected) {
+                // a cut inside a block; whole blocks before it are still delivered
+            }
+            assertThat(replayed.events).as("cut at %d", cut).isEqualTo(written.subList(0, replayed.events.size()));
+        }
+    }
+
+    @Test
+    void reportsEveryCorruptByte() throws IOException {
+        List<String> written = new ArrayList<>();
+        byte[] stream = encode(written);
+
+        for (int at = EventStreamFormat.MAGIC.length; at < stream.length; at++) {
+            for (int bit = 0; bit < 8; bit++) {
+                byte[] corrupt = Arrays.copyOf(stream, stream.length);
+                corrupt[at] ^= (byte) (1 << bit);
+                RecordingListener replayed = new RecordingListener();
+                String where = "bit " + bit + " of byte " + at;
+
+                assertThatThrownBy(() -> {
+                    try (GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(corrupt))) {
+                        decoder.replay(replayed);
+                    }
+                }).as(where).isInstanceOf(IOException.class);
+                assertThat(replayed.events).as(where).isEqualTo(written.subList(0, replayed.events.size()));
+            }
+        }
+    }
+
+    @Test
+    void rejectsABlockLengthThatDoesNotFitAnInt() {
+        byte[] stream = {'G', 'E', 'V', '1', (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 1};
+
+        assertThatThrownBy(() -> {
+            try (GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(stream))) {
+                decoder.replay(new RecordingListener());
+            }
+        }).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void reportsAHugeBlockLengthAsTruncationBeforeAllocatingIt() {
+        byte[] stream = {'G', 'E', 'V', '1', (byte) 0xF0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1, 0};
+
+        assertThatThrownBy(() -> {
+            try (GameEventDecoder decoder = new GameEventDecoder(new ByteArrayInputStream(stream))) {
+                decoder.replay(new RecordingListener());
+            }
+        }).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void rejectsAStreamWithoutTheHeader() {
+        byte[] stream = {'G', 'E', 'V', '2'};
+
+        assertThatThrownBy(() -> new GameEventDecoder(new ByteArrayInputStream(stream)))
+                .isInstanceOf(StreamCorruptedException.class);
+    }
+
+    // Forty players, more than the codec's initial score tables hold, taking turns in short games
+    private static byte[] encode(List<String> written) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordingListener recorder = new RecordingListener();
+        SplittableRandom random = new SplittableRandom(7);
+        try (GameEventEncoder encoder = new GameEventEncoder(out, BLOCK_SIZE)) {
+            for (int game = 0; game < 40; game++) {
+                PlayerName[] players = {new PlayerName("player " + game), new PlayerName("player " + (game + 1) % 40)};
+                int[] scores = new int[2];
+                for (PlayerName player : players) {
+                    encoder.onGameStarted(player);
+                    recorder.onGameStarted(player);
+                }
+                for (int turn = 0; turn < 8; turn++) {
+                    int seat = turn % 2;
+                    DiceRoll roll = DiceRoll.of(1 + random.nextInt(6));
+                    scores[seat] = Math.max(0, scores[seat] + roll.getValue() - random.nextInt(8));
+                    encoder.onRollMade(players[seat], roll, Score.of(scores[seat]));
+                    recorder.onRollMade(players[seat], roll, Score.of(scores[seat]));
+                }
+                for (int seat = 0; seat < 2; seat++) {
+                    encoder.onGameEnded(players[seat], Score.of(scores[seat]));
+                    recorder.onGameEnded(players[seat], Score.of(scores[seat]));
+                }
+            }
+        }
+        written.addAll(recorder.events);
+        return out.toByteArray();
+    }
+
+    private static final class RecordingListener implements GameEventListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onGameStarted(PlayerName playerName) {
+            events.add("started " + playerName.getName());
+        }
+
+        @Override
+        public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+            events.add(playerName.getName() + " " + roll.getValue() + " " + score.getValue());
+        }
+
+        @Override
+        public void onGameEnded(PlayerName playerName, Score finalScore) {
+            events.add("ended " + playerName.getName() + " " + finalScore.getValue());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package uk.ac.mmu.game.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.DiceRoll;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.PlayerName;
+import uk.ac.mmu.game.applicationcode.domainmodel.values.Score;
+import uk.ac.mmu.game.applicationcode.observers.GameEventListener;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTests {
+
+    // STARTED "alice" is 20 bytes, STARTED "bob" 18 and each ROLL 18, so two starts and nine rolls fill 200 exactly
+    private static final int SEGMENT_SIZE = 200;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysWhatWasAppended() {
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE)) {
+            int gameId = journal.nextGameId();
+            journal.appendGameStarted(gameId, new PlayerName("alice"));
+            journal.appendRoll(gameId, 4, 4);
+            journal.appendRoll(gameId, 6, 10);
+            journal.appendGameEnded(gameId, 10);
+
+            assertThat(replay(journal, gameId))
+                    .containsExactly("started alice", "alice 4 4", "alice 6 10", "ended alice 10");
+        }
+    }
+
+    @Test
+    void appendsAfterARecordEndsExactlyOnTheSegmentBoundary() {
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE)) {
+            int alice = journal.nextGameId();
+            int bob = journal.nextGameId();
+            fillFirstSegmentExactly(journal, alice, bob);
+
+            journal.appendRoll(alice, 2, 7);
+            journal.appendGameEnded(alice, 7);
+            journal.appendGameEnded(bob, 20);
+
+            assertThat(Files.exists(directory.resolve("segment-00001.log"))).isTrue();
+            assertThat(replay(journal, alice)).endsWith("alice 2 7", "ended alice 7").hasSize(8);
+            assertThat(replay(journal, bob)).endsWith("ended bob 20").hasSize(6);
+        }
+    }
+
+    @Test
+    void appendsAfterReopeningAJournalWhoseLastSegmentIsExactlyFull() {
+        int alice;
+        int bob;
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE)) {
+            alice = journal.nextGameId();
+            bob = journal.nextGameId();
+            fillFirstSegmentExactly(journal, alice, bob);
+        }
+
+        try (GameJournal journal = new GameJournal(directory, SEGMENT_SIZE)) {
+            int carol = journal.nextGameId();
+            journal.appendGameStarted(carol, new PlayerName("carol"));
+            journal.appendRoll(carol, 3, 3);
+            journal.appendGameEnded(carol, 3);
+
+            assertThat(replay(journal, carol)).containsExactly("started carol", "carol 3 3", "ended carol 3");
+            assertThat(replay(journal, alice)).hasSize(6);
+            assertThat(replay(journal, bob)).hasSize(5);
+        }
+    }
+
+    private static void fillFirstSegmentExactly(GameJournal journal, int alice, int bob) {
+        journal.appendGameStarted(alice, new PlayerName("alice"));
+        journal.appendGameStarted(bob, new PlayerName("bob"));
+        for (int roll = 0; roll < 9; roll++) {
+            int gameId = roll % 2 == 0 ? alice : bob;
+            journal.appendRoll(gameId, 1 + roll % 6, roll + 1);
+        }
+    }
+
+    private static List<String> replay(GameJournal journal, int gameId) {
+        List<String> events = new ArrayList<>();
+        journal.replay(gameId, new GameEventListener() {
+            @Override
+            public void onGameStarted(PlayerName playerName) {
+                events.add("started " + playerName.getName());
+            }
+
+            @Override
+            public void onRollMade(PlayerName playerName, DiceRoll roll, Score score) {
+                events.add(playerName.getName() + " " + roll.getValue() + " " + score.getValue());
+            }
+
+            @Override
+            public void onGameEnded(PlayerName playerName, Score finalScore) {
+                events.add("ended " + playerName.getName() + " " + finalScore.getValue());
+            }
+        });
+        return events;
+    }
+}
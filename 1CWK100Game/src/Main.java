@@ -1,35 +1,32 @@
 public class Main {
     public static void main(String[] args) {
 
-        Red red = new Red();
-        Blue blue = new Blue();
+        TrackEngine engine = new TrackEngine(Track.RED, Track.BLUE);
         final int[] shakes = new int[]{12, 12, 7, 8};
         int turns = 0;
-        int redTurns = 0;
-        int blueTurns = 0;
 
-        System.out.format("Red:%s Blue:%s %n", red.getPositionAsString(), blue.getPositionAsString());
-        while (!red.isAtEnd() & !blue.isAtEnd()) {
-            int shake = shakes[turns++];
-            if (turns % 2 == 1) {
-                redTurns++;
-                System.out.format("Red play %d rolls %d%n", redTurns, shake);
-                String start = red.getPositionAsString();
-                red.advance(shake);
-                System.out.format("Red moves from %s to %s%n", start, red.getPositionAsString());
+        StringBuilder positions = new StringBuilder();
+        for (int player = 0; player < engine.players(); player++) {
+            positions.append(String.format("%s:%s ", engine.getName(player), engine.getPositionAsString(player)));
+        }
+        System.out.format("%s%n", positions);
+        int player = 0;
+        int winner = -1;
+        while (winner < 0) {
+            // The shakes repeat once used up, however many players and turns the match takes
+            int shake = shakes[turns++ % shakes.length];
+            String name = engine.getName(player);
+            System.out.format("%s play %d rolls %d%n", name, engine.getTurns(player) + 1, shake);
+            String start = engine.getPositionAsString(player);
+            engine.advance(player, shake);
+            System.out.format("%s moves from %s to %s%n", name, start, engine.getPositionAsString(player));
+            if (engine.isAtEnd(player)) {
+                winner = player;
             } else {
-                blueTurns++;
-                System.out.format("Blue play %d rolls %d%n", blueTurns, shake);
-                String start = blue.getPositionAsString();
-                blue.advance(shake);
-                System.out.format("Blue moves from %s to %s%n", start, blue.getPositionAsString());
+                player = (player + 1) % engine.players();
             }
         }
-        if (red.isAtEnd()) {
-            System.out.format("Red wins in %d moves%n", redTurns);
-        } else {
-            System.out.format("BLue wins in %d moves%n", blueTurns);
-        }
+        System.out.format("Player %d (%s) wins in %d moves%n", winner + 1, engine.getName(winner), engine.getTurns(winner));
         System.out.format("Total plays %d%n", turns);
 
     }
@@ -0,0 +1,169 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays a long series of Red-vs-Blue matches in parallel and streams one fixed-size record per match
+ * to a binary file. Match n is played with the dice seeded from (base seed + n), so any single match
+ * can be reproduced on its own, and a rerun with the same file carries on after the last match written.
+ *
+ * Usage: java TournamentRunner results.bin matches [seed] [threads]
+ *
+ * File layout: header of magic (int), record size (int), base seed (long), then per match
+ * winner (byte, 0 = Red, 1 = Blue), Red turns (short), Blue turns (short), total plays (short), padding (byte).
+ */
+public class TournamentRunner {
+    private static final int MAGIC = 0x52564254;  // "RVBT"
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 8;
+    private static final int CHUNK = 64 * 1024;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Path output;
+    private final long baseSeed;
+    private final int threads;
+
+    TournamentRunner(Path output, long baseSeed, int threads) {
+        this.output = output;
+        this.baseSeed = baseSeed;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: java TournamentRunner results.bin matches [seed] [threads]");
+            return;
+        }
+        Path output = Path.of(args[0]);
+        long matches = Long.parseLong(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        long started = System.nanoTime();
+        long[] wins = new TournamentRunner(output, seed, threads).run(matches);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.format("Matches %d, Red wins %d, Blue wins %d, %.1f s%n", wins[0] + wins[1], wins[0], wins[1], seconds);
+    }
+
+    /**
+     * Plays matches up to the given total, resuming after whatever the file already holds.
+     *
+     * @return wins by Red and Blue among the matches played by this call
+     */
+    long[] run(long matches) throws IOException, InterruptedException {
+        long[] wins = new long[2];
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long next = resumePoint(channel);
+            channel.position(HEADER_SIZE + next * RECORD_SIZE);
+
+            ByteBuffer[] buffers = new ByteBuffer[threads];
+            for (int i = 0; i < threads; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(CHUNK * RECORD_SIZE);
+            }
+            while (next < matches) {
+                List<Future<long[]>> wave = new ArrayList<>();
+                for (int i = 0; i < threads && next < matches; i++) {
+                    long first = next;
+                    int count = (int) Math.min(CHUNK, matches - next);
+                    ByteBuffer buffer = buffers[i];
+                    wave.add(workers.submit(() -> playChunk(first, count, buffer)));
+                    next += count;
+                }
+                for (int i = 0; i < wave.size(); i++) {
+                    long[] chunkWins = wave.get(i).get();
+                    wins[0] += chunkWins[0];
+                    wins[1] += chunkWins[1];
+                    ByteBuffer buffer = buffers[i];
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                channel.force(false);
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Match worker failed", e.getCause());
+        } finally {
+            workers.shutdown();
+        }
+        return wins;
+    }
+
+    // Writes the header for a new file, or checks it and drops any half-written record for an existing one
+    private long resumePoint(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.size() < HEADER_SIZE) {
+            header.putInt(MAGIC).putInt(RECORD_SIZE).putLong(baseSeed).flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            return 0;
+        }
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != RECORD_SIZE) {
+            throw new IOException(output + " is not a tournament results file");
+        }
+        if (header.getLong() != baseSeed) {
+            throw new IOException(output + " was started with a different seed");
+        }
+        long completed = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        channel.truncate(HEADER_SIZE + completed * RECORD_SIZE);
+        return completed;
+    }
+
+    private long[] playChunk(long first, int count, ByteBuffer buffer) {
+        TrackEngine engine = new TrackEngine(Track.RED, Track.BLUE);
+        long[] wins = new long[2];
+        buffer.clear();
+        for (int i = 0; i < count; i++) {
+            int winner = playMatch(engine, baseSeed + first + i);
+            wins[winner]++;
+            buffer.put((byte) winner)
+                    .putShort((short) engine.getTurns(0))
+                    .putShort((short) engine.getTurns(1))
+                    .putShort((short) engine.getTotalTurns())
+                    .put((byte) 0);
+        }
+        buffer.flip();
+        return wins;
+    }
+
+    /**
+     * Plays one match with two dice per turn drawn from a SplitMix64 stream seeded with the match seed.
+     */
+    static int playMatch(TrackEngine engine, long seed) {
+        engine.reset();
+        long state = seed;
+        int player = 0;
+        while (true) {
+            state += GOLDEN_GAMMA;
+            long bits = mix(state);
+            int shake = die(bits) + die(bits >>> 32);
+            engine.advance(player, shake);
+            if (engine.isAtEnd(player)) {
+                return player;
+            }
+            player = player + 1 == engine.players() ? 0 : player + 1;
+        }
+    }
+
+    private static int die(long bits) {
+        return (int) (((bits & 0xffffffffL) * 6) >>> 32) + 1;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * The route one player takes round the board: each index along the route maps to a board position,
+ * and the last few indexes are the player's own tail.
+ */
+class Track {
+    static final Track RED = new Track("Red", new int[]{
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 1, 2, 3
+    }, 18, 20);
+    static final Track BLUE = new Track("Blue", new int[]{
+            10, 11, 12, 13, 14, 15, 16, 17, 18, 1, 2, 3, 4, 5, 6, 7, 8, 9, 1, 2, 3
+    }, 18, 20);
+
+    private final String name;
+    private final int[] positions;
+    private final int startOfTailIndex;
+    private final int endOfTailIndex;
+
+    Track(String name, int[] positions, int startOfTailIndex, int endOfTailIndex) {
+        if (endOfTailIndex != positions.length - 1 || startOfTailIndex < 1 || startOfTailIndex > endOfTailIndex) {
+            throw new IllegalArgumentException("Tail must lie within the track and end on its last index");
+        }
+        this.name = name;
+        this.positions = positions.clone();
+        this.startOfTailIndex = startOfTailIndex;
+        this.endOfTailIndex = endOfTailIndex;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getPosition(int index) {
+        return positions[index];
+    }
+
+    int getStartOfTailIndex() {
+        return startOfTailIndex;
+    }
+
+    int getEndOfTailIndex() {
+        return endOfTailIndex;
+    }
+
+    int length() {
+        return positions.length;
+    }
+}
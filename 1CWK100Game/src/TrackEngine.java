@@ -0,0 +1,142 @@
+import java.util.Arrays;
+
+/**
+ * Moves any number of players along their Tracks. Player state is kept as parallel int arrays
+ * (struct-of-arrays) and the tracks are flattened into one position table, so playing a match
+ * creates no objects and formats no strings.
+ */
+class TrackEngine {
+    private final Track[] tracks;
+    private final int[] positionTable;
+    private final int[] trackOffset;
+    private final int[] startOfTailIndex;
+    private final int[] endOfTailIndex;
+
+    private final int[] currentIndex;
+    private final int[] turns;
+    private int totalTurns;
+
+    TrackEngine(Track... tracks) {
+        if (tracks.length == 0) {
+            throw new IllegalArgumentException("Need at least one player");
+        }
+        this.tracks = tracks.clone();
+        int players = tracks.length;
+        trackOffset = new int[players];
+        startOfTailIndex = new int[players];
+        endOfTailIndex = new int[players];
+        int size = 0;
+        for (int player = 0; player < players; player++) {
+            trackOffset[player] = size;
+            startOfTailIndex[player] = tracks[player].getStartOfTailIndex();
+            endOfTailIndex[player] = tracks[player].getEndOfTailIndex();
+            size += tracks[player].length();
+        }
+        positionTable = new int[size];
+        for (int player = 0; player < players; player++) {
+            for (int index = 0; index < tracks[player].length(); index++) {
+                positionTable[trackOffset[player] + index] = tracks[player].getPosition(index);
+            }
+        }
+        currentIndex = new int[players];
+        turns = new int[players];
+    }
+
+    int players() {
+        return currentIndex.length;
+    }
+
+    String getName(int player) {
+        return tracks[player].getName();
+    }
+
+    void reset() {
+        Arrays.fill(currentIndex, 0);
+        Arrays.fill(turns, 0);
+        totalTurns = 0;
+    }
+
+    boolean isHome(int player) {
+        return currentIndex[player] == 0;
+    }
+
+    boolean isInTail(int player) {
+        return currentIndex[player] >= startOfTailIndex[player];
+    }
+
+    boolean isInBody(int player) {
+        return !isInTail(player);
+    }
+
+    boolean isAtEnd(int player) {
+        return currentIndex[player] == endOfTailIndex[player];
+    }
+
+    int getPosition(int player) {
+        return positionTable[trackOffset[player] + currentIndex[player]];
+    }
+
+    int getTurns(int player) {
+        return turns[player];
+    }
+
+    int getTotalTurns() {
+        return totalTurns;
+    }
+
+    void advance(int player, int positions) {
+        int index = currentIndex[player] + positions;
+        if (index > endOfTailIndex[player]) {
+            index = endOfTailIndex[player];
+        }
+        currentIndex[player] = index;
+        turns[player]++;
+        totalTurns++;
+    }
+
+    /**
+     * The player in the body of the board at the given board position, or -1 if it is free.
+     * Tails belong to one player each, so they are never shared.
+     */
+    int occupant(int boardPosition) {
+        for (int player = 0; player < currentIndex.length; player++) {
+            if (isInBody(player) && getPosition(player) == boardPosition) {
+                return player;
+            }
+        }
+        return -1;
+    }
+
+    boolean isOccupied(int boardPosition) {
+        return occupant(boardPosition) >= 0;
+    }
+
+    /**
+     * Plays turns in player order from the start, taking one shake per turn, until a player reaches the end.
+     *
+     * @return the winning player, or -1 if the shakes ran out first
+     */
+    int play(int[] shakes) {
+        reset();
+        int player = 0;
+        for (int shake : shakes) {
+            advance(player, shake);
+            if (isAtEnd(player)) {
+                return player;
+            }
+            player = player + 1 == currentIndex.length ? 0 : player + 1;
+        }
+        return -1;
+    }
+
+    String getPositionAsString(int player) {
+        if (isHome(player))
+            return String.format("HOME (Position %d)", getPosition(player));
+        if (isAtEnd(player))
+            return String.format("END (Tail Position %d)", getPosition(player));
+        if (isInTail(player))
+            return String.format("TAIL (Tail Position %d)", getPosition(player));
+        else
+            return String.format("Position %d", getPosition(player));
+    }
+}